@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Cluster persist repository batch writer advice.
+ */
+public final class ClusterPersistRepositoryBatchWriterAdvice implements InstanceMethodAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.CLUSTER_PERSIST_BATCH);
+        MetricsPool.create(MetricIds.CLUSTER_PERSIST_BATCH_PERSISTED);
+        MetricsPool.create(MetricIds.CLUSTER_PERSIST_BATCH_COALESCED);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH).ifPresent(MetricsWrapper::inc);
+        MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH_PERSISTED).ifPresent(optional -> optional.inc((int) args[0]));
+        MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH_COALESCED).ifPresent(optional -> optional.inc((int) args[1]));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.metrics.core.util.SQLStatementTypeUtil;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.util.reflect.ReflectiveUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+
+/**
+ * JDBC executor callback advice.
+ */
+public final class JDBCExecutorCallbackAdvice implements InstanceMethodAdvice {
+    
+    private final MethodTimeRecorder methodTimeRecorder;
+    
+    static {
+        MetricsPool.create(MetricIds.EXECUTE_SQL_LATENCY_MILLIS);
+    }
+    
+    public JDBCExecutorCallbackAdvice() {
+        this(new MethodTimeRecorder());
+    }
+    
+    JDBCExecutorCallbackAdvice(final MethodTimeRecorder methodTimeRecorder) {
+        this.methodTimeRecorder = methodTimeRecorder;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        methodTimeRecorder.record(method);
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        double elapsedTime = methodTimeRecorder.getElapsedTimeAndClean(method);
+        String sqlStatementType = SQLStatementTypeUtil.getType((SQLStatement) ReflectiveUtil.getFieldValue(target, "sqlStatement"));
+        String dataSourceName = ((JDBCExecutionUnit) args[0]).getExecutionUnit().getDataSourceName();
+        MetricsPool.get(MetricIds.EXECUTE_SQL_LATENCY_MILLIS).ifPresent(optional -> optional.observe(elapsedTime, sqlStatementType, dataSourceName));
+    }
+}
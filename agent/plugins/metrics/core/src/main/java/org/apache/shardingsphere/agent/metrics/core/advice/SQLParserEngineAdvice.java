@@ -23,6 +23,8 @@ import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.MetricsWrapper;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.metrics.core.util.SQLStatementTypeUtil;
 import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
@@ -43,6 +45,8 @@ import java.lang.reflect.Method;
  */
 public final class SQLParserEngineAdvice implements InstanceMethodAdvice {
     
+    private final MethodTimeRecorder methodTimeRecorder;
+    
     static {
         MetricsPool.create(MetricIds.PARSE_SQL_INSERT);
         MetricsPool.create(MetricIds.PARSE_SQL_DELETE);
@@ -55,11 +59,30 @@ public final class SQLParserEngineAdvice implements InstanceMethodAdvice {
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RQL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RDL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RAL);
+        MetricsPool.create(MetricIds.PARSE_SQL_LATENCY_MILLIS);
+    }
+    
+    public SQLParserEngineAdvice() {
+        this(new MethodTimeRecorder());
+    }
+    
+    SQLParserEngineAdvice(final MethodTimeRecorder methodTimeRecorder) {
+        this.methodTimeRecorder = methodTimeRecorder;
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        methodTimeRecorder.record(method);
     }
     
     @Override
     public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        double elapsedTime = methodTimeRecorder.getElapsedTimeAndClean(method);
         SQLStatement sqlStatement = (SQLStatement) invocationResult.getResult();
+        if (null == sqlStatement) {
+            return;
+        }
+        MetricsPool.get(MetricIds.PARSE_SQL_LATENCY_MILLIS).ifPresent(optional -> optional.observe(elapsedTime, SQLStatementTypeUtil.getType(sqlStatement)));
         countSQL(sqlStatement);
         countDistSQL(sqlStatement);
     }
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.MetricsWrapper;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.metrics.core.util.SQLStatementTypeUtil;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
@@ -41,6 +43,8 @@ import java.util.Collection;
  */
 public final class SQLRouteEngineAdvice implements InstanceMethodAdvice {
     
+    private final MethodTimeRecorder methodTimeRecorder;
+    
     static {
         MetricsPool.create(MetricIds.ROUTE_SQL_INSERT);
         MetricsPool.create(MetricIds.ROUTE_SQL_DELETE);
@@ -48,10 +52,20 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAdvice {
         MetricsPool.create(MetricIds.ROUTE_SQL_SELECT);
         MetricsPool.create(MetricIds.ROUTE_DATASOURCE);
         MetricsPool.create(MetricIds.ROUTE_TABLE);
+        MetricsPool.create(MetricIds.ROUTE_SQL_LATENCY_MILLIS);
+    }
+    
+    public SQLRouteEngineAdvice() {
+        this(new MethodTimeRecorder());
+    }
+    
+    SQLRouteEngineAdvice(final MethodTimeRecorder methodTimeRecorder) {
+        this.methodTimeRecorder = methodTimeRecorder;
     }
     
     @Override
     public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        methodTimeRecorder.record(method);
         QueryContext queryContext = (QueryContext) args[1];
         SQLStatement sqlStatement = queryContext.getSqlStatementContext().getSqlStatement();
         if (sqlStatement instanceof InsertStatement) {
@@ -67,6 +81,11 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAdvice {
     
     @Override
     public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final MethodInvocationResult invocationResult) {
+        double elapsedTime = methodTimeRecorder.getElapsedTimeAndClean(method);
+        if (args.length > 1 && args[1] instanceof QueryContext) {
+            String sqlStatementType = SQLStatementTypeUtil.getType(((QueryContext) args[1]).getSqlStatementContext().getSqlStatement());
+            MetricsPool.get(MetricIds.ROUTE_SQL_LATENCY_MILLIS).ifPresent(optional -> optional.observe(elapsedTime, sqlStatementType));
+        }
         RouteContext routeContext = (RouteContext) invocationResult.getResult();
         if (null != routeContext) {
             Collection<RouteUnit> routeUnits = routeContext.getRouteUnits();
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.advice.type.StaticMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.agent.metrics.core.util.SQLStatementTypeUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+
+/**
+ * SQL statement context factory advice.
+ */
+public final class SQLStatementContextFactoryAdvice implements StaticMethodAdvice {
+    
+    private final MethodTimeRecorder methodTimeRecorder;
+    
+    static {
+        MetricsPool.create(MetricIds.BIND_SQL_LATENCY_MILLIS);
+    }
+    
+    public SQLStatementContextFactoryAdvice() {
+        this(new MethodTimeRecorder());
+    }
+    
+    SQLStatementContextFactoryAdvice(final MethodTimeRecorder methodTimeRecorder) {
+        this.methodTimeRecorder = methodTimeRecorder;
+    }
+    
+    @Override
+    public void beforeMethod(final Class<?> clazz, final Method method, final Object[] args, final MethodInvocationResult result) {
+        methodTimeRecorder.record(method);
+    }
+    
+    @Override
+    public void afterMethod(final Class<?> clazz, final Method method, final Object[] args, final MethodInvocationResult result) {
+        double elapsedTime = methodTimeRecorder.getElapsedTimeAndClean(method);
+        String sqlStatementType = SQLStatementTypeUtil.getType((SQLStatement) args[2]);
+        MetricsPool.get(MetricIds.BIND_SQL_LATENCY_MILLIS).ifPresent(optional -> optional.observe(elapsedTime, sqlStatementType));
+    }
+}
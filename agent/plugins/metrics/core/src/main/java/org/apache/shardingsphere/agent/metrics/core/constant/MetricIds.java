@@ -73,4 +73,22 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String PARSE_SQL_LATENCY_MILLIS = "parse_sql_latency_millis";
+    
+    public static final String BIND_SQL_LATENCY_MILLIS = "bind_sql_latency_millis";
+    
+    public static final String ROUTE_SQL_LATENCY_MILLIS = "route_sql_latency_millis";
+    
+    public static final String REWRITE_SQL_LATENCY_MILLIS = "rewrite_sql_latency_millis";
+    
+    public static final String EXECUTE_SQL_LATENCY_MILLIS = "execute_sql_latency_millis";
+    
+    public static final String MERGE_RESULT_LATENCY_MILLIS = "merge_result_latency_millis";
+    
+    public static final String CLUSTER_PERSIST_BATCH = "cluster_persist_batch_total";
+    
+    public static final String CLUSTER_PERSIST_BATCH_PERSISTED = "cluster_persist_batch_persisted_total";
+    
+    public static final String CLUSTER_PERSIST_BATCH_COALESCED = "cluster_persist_batch_coalesced_total";
 }
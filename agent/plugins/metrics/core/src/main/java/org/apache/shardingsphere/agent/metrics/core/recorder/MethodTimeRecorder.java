@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.recorder;
+
+import lombok.RequiredArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Method time recorder.
+ *
+ * <p>Start times are stacked per method, so nested or recursive invocations of the same method are recorded separately.</p>
+ */
+@RequiredArgsConstructor
+public final class MethodTimeRecorder {
+    
+    private final ThreadLocal<Map<Method, Deque<Long>>> startNanoTimes = ThreadLocal.withInitial(HashMap::new);
+    
+    private final LongSupplier nanoTimeSupplier;
+    
+    public MethodTimeRecorder() {
+        this(System::nanoTime);
+    }
+    
+    /**
+     * Record now.
+     *
+     * @param method method to be recorded
+     */
+    public void record(final Method method) {
+        startNanoTimes.get().computeIfAbsent(method, key -> new ArrayDeque<>()).push(nanoTimeSupplier.getAsLong());
+    }
+    
+    /**
+     * Get elapsed time and clean recorded time.
+     *
+     * @param method method to be recorded
+     * @return elapsed time in milliseconds
+     */
+    public double getElapsedTimeAndClean(final Method method) {
+        Map<Method, Deque<Long>> recordedTimes = startNanoTimes.get();
+        Deque<Long> startTimes = recordedTimes.get(method);
+        if (null == startTimes || startTimes.isEmpty()) {
+            return 0D;
+        }
+        long startNanoTime = startTimes.pop();
+        if (startTimes.isEmpty()) {
+            recordedTimes.remove(method);
+        }
+        return (nanoTimeSupplier.getAsLong() - startNanoTime) / 1000000D;
+    }
+}
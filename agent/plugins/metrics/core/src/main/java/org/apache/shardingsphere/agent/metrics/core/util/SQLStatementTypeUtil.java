@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
+
+/**
+ * SQL statement type utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementTypeUtil {
+    
+    /**
+     * Get SQL statement type used as metric label.
+     *
+     * @param sqlStatement SQL statement
+     * @return SQL statement type
+     */
+    public static String getType(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof InsertStatement) {
+            return "INSERT";
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return "DELETE";
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return "UPDATE";
+        }
+        if (sqlStatement instanceof SelectStatement) {
+            return "SELECT";
+        }
+        if (sqlStatement instanceof DDLStatement) {
+            return "DDL";
+        }
+        if (sqlStatement instanceof DCLStatement) {
+            return "DCL";
+        }
+        if (sqlStatement instanceof DALStatement) {
+            return "DAL";
+        }
+        if (sqlStatement instanceof TCLStatement) {
+            return "TCL";
+        }
+        if (sqlStatement instanceof RQLStatement) {
+            return "RQL";
+        }
+        if (sqlStatement instanceof RDLStatement) {
+            return "RDL";
+        }
+        if (sqlStatement instanceof RALStatement) {
+            return "RAL";
+        }
+        return "OTHER";
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ClusterPersistRepositoryBatchWriterAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final ClusterPersistRepositoryBatchWriterAdvice advice = new ClusterPersistRepositoryBatchWriterAdvice();
+    
+    @Mock
+    private Method onBatchPersisted;
+    
+    @Test
+    public void assertAfterMethod() {
+        advice.afterMethod(new MockTargetAdviceObject(), onBatchPersisted, new Object[]{10, 3}, new MethodInvocationResult());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH).get()).getFixtureValue(), is(1.0));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH_PERSISTED).get()).getFixtureValue(), is(10.0));
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.CLUSTER_PERSIST_BATCH_COALESCED).get()).getFixtureValue(), is(3.0));
+    }
+}
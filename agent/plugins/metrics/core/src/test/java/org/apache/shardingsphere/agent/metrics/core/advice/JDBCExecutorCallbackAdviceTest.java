@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.util.reflect.ReflectiveUtil;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public final class JDBCExecutorCallbackAdviceTest extends MetricsAdviceBaseTest {
+    
+    @Test
+    public void assertExecuteLatency() {
+        LongSupplier nanoTimeSupplier = mock(LongSupplier.class);
+        when(nanoTimeSupplier.getAsLong()).thenReturn(0L, 10000000L);
+        JDBCExecutorCallbackAdvice advice = new JDBCExecutorCallbackAdvice(new MethodTimeRecorder(nanoTimeSupplier));
+        JDBCExecutorCallback<?> targetObject = mock(JDBCExecutorCallback.class, withSettings().extraInterfaces(TargetAdviceObject.class));
+        ReflectiveUtil.setField(targetObject, "sqlStatement", mock(SelectStatement.class));
+        Method method = mock(Method.class);
+        JDBCExecutionUnit executionUnit = new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit("SELECT 1", Collections.emptyList())), null, mock(Statement.class));
+        Object[] args = {executionUnit, true, Collections.emptyMap()};
+        advice.beforeMethod((TargetAdviceObject) targetObject, method, args, new MethodInvocationResult());
+        advice.afterMethod((TargetAdviceObject) targetObject, method, args, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.EXECUTE_SQL_LATENCY_MILLIS).isPresent());
+        FixtureWrapper actual = (FixtureWrapper) MetricsPool.get(MetricIds.EXECUTE_SQL_LATENCY_MILLIS).get();
+        assertThat(actual.getFixtureValue(), is(10D));
+        assertThat(actual.getFixtureLabels(), is(new String[]{"SELECT", "ds_0"}));
+    }
+}
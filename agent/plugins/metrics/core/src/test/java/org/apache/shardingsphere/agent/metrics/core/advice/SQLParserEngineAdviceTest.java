@@ -21,6 +21,7 @@ import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
 import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.create.RegisterStorageUnitStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowStorageUnitsStatement;
 import org.apache.shardingsphere.migration.distsql.statement.ShowMigrationListStatement;
@@ -38,11 +39,13 @@ import org.junit.Test;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.function.LongSupplier;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class SQLParserEngineAdviceTest extends MetricsAdviceBaseTest {
     
@@ -101,6 +104,21 @@ public final class SQLParserEngineAdviceTest extends MetricsAdviceBaseTest {
         assertParse(MetricIds.PARSE_DIST_SQL_RAL, new ShowMigrationListStatement());
     }
     
+    @Test
+    public void assertParseLatency() {
+        LongSupplier nanoTimeSupplier = mock(LongSupplier.class);
+        when(nanoTimeSupplier.getAsLong()).thenReturn(0L, 10000000L);
+        SQLParserEngineAdvice advice = new SQLParserEngineAdvice(new MethodTimeRecorder(nanoTimeSupplier));
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        Method method = mock(Method.class);
+        advice.beforeMethod(targetObject, method, new Object[]{}, new MethodInvocationResult());
+        MethodInvocationResult result = new MethodInvocationResult();
+        result.rebase(mock(SQLStatement.class));
+        advice.afterMethod(targetObject, method, new Object[]{}, result);
+        assertTrue(MetricsPool.get(MetricIds.PARSE_SQL_LATENCY_MILLIS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_SQL_LATENCY_MILLIS).get()).getFixtureValue(), is(10D));
+    }
+    
     private void assertParse(final String metricIds, final SQLStatement sqlStatement) {
         MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
         MethodInvocationResult result = new MethodInvocationResult();
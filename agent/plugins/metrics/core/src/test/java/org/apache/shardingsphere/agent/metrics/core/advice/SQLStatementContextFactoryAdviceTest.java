@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.apache.shardingsphere.agent.metrics.core.recorder.MethodTimeRecorder;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class SQLStatementContextFactoryAdviceTest extends MetricsAdviceBaseTest {
+    
+    @Test
+    public void assertBindLatency() {
+        LongSupplier nanoTimeSupplier = mock(LongSupplier.class);
+        when(nanoTimeSupplier.getAsLong()).thenReturn(0L, 10000000L);
+        SQLStatementContextFactoryAdvice advice = new SQLStatementContextFactoryAdvice(new MethodTimeRecorder(nanoTimeSupplier));
+        Method method = mock(Method.class);
+        Object[] args = {null, Collections.emptyList(), new MySQLSelectStatement(), "foo_db"};
+        advice.beforeMethod(Object.class, method, args, new MethodInvocationResult());
+        advice.afterMethod(Object.class, method, args, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.BIND_SQL_LATENCY_MILLIS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.BIND_SQL_LATENCY_MILLIS).get()).getFixtureValue(), is(10D));
+    }
+}
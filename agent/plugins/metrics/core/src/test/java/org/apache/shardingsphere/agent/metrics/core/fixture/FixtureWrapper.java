@@ -28,6 +28,8 @@ public final class FixtureWrapper implements MetricsWrapper {
     
     private Double fixtureValue = 0.0d;
     
+    private String[] fixtureLabels;
+    
     @Override
     public void inc(final double value) {
         fixtureValue += value;
@@ -53,6 +55,12 @@ public final class FixtureWrapper implements MetricsWrapper {
         fixtureValue = value;
     }
     
+    @Override
+    public void observe(final double value, final String... labels) {
+        fixtureValue = value;
+        fixtureLabels = labels;
+    }
+    
     @Override
     public void delegate(final Object object) {
         fixtureValue = -1.0;
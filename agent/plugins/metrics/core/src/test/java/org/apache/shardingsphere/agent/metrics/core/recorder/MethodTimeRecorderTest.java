@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.recorder;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.function.LongSupplier;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MethodTimeRecorderTest {
+    
+    @Test
+    public void assertGetElapsedTimeWithNestedInvocations() {
+        LongSupplier nanoTimeSupplier = mock(LongSupplier.class);
+        when(nanoTimeSupplier.getAsLong()).thenReturn(0L, 2000000L, 5000000L, 10000000L);
+        MethodTimeRecorder recorder = new MethodTimeRecorder(nanoTimeSupplier);
+        Method method = mock(Method.class);
+        recorder.record(method);
+        recorder.record(method);
+        assertThat(recorder.getElapsedTimeAndClean(method), is(3D));
+        assertThat(recorder.getElapsedTimeAndClean(method), is(10D));
+    }
+    
+    @Test
+    public void assertGetElapsedTimeWithoutRecord() {
+        assertThat(new MethodTimeRecorder().getElapsedTimeAndClean(mock(Method.class)), is(0D));
+    }
+}
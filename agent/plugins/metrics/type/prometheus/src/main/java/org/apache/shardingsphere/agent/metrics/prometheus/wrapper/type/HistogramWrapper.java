@@ -33,4 +33,9 @@ public final class HistogramWrapper implements MetricsWrapper {
     public void observe(final double value) {
         histogram.observe(value);
     }
+    
+    @Override
+    public void observe(final double value, final String... labels) {
+        histogram.labels(labels).observe(value);
+    }
 }
@@ -299,6 +299,22 @@ STREAM_CHANNEL
     : S T R E A M UL_ C H A N N E L
     ;
 
+INCREMENTAL_CHECK
+    : I N C R E M E N T A L UL_ C H E C K
+    ;
+
+SAMPLE_RATE
+    : S A M P L E UL_ R A T E
+    ;
+
+DELAY_MILLIS
+    : D E L A Y UL_ M I L L I S
+    ;
+
+DECODING_PLUGIN
+    : D E C O D I N G UL_ P L U G I N
+    ;
+
 STORAGE
     : S T O R A G E
     ;
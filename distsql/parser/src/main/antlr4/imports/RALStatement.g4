@@ -100,11 +100,11 @@ alterMigrationRule
     ;
 
 inventoryIncrementalRule
-    : LP_ readDefinition? (COMMA_? writeDefinition)? (COMMA_? streamChannel)? RP_
+    : LP_ readDefinition? (COMMA_? writeDefinition)? (COMMA_? streamChannel)? (COMMA_? incrementalCheck)? RP_
     ;
 
 readDefinition
-    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? rateLimiter)? RP_
+    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? rateLimiter)? (COMMA_? decodingPlugin)? RP_
     ;
 
 writeDefinition
@@ -127,10 +127,26 @@ rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
 
+decodingPlugin
+    : DECODING_PLUGIN EQ_ STRING_
+    ;
+
 streamChannel
     : STREAM_CHANNEL LP_ algorithmDefinition RP_
     ;
 
+incrementalCheck
+    : INCREMENTAL_CHECK LP_ sampleRate? (COMMA_? delayMillis)? RP_
+    ;
+
+sampleRate
+    : SAMPLE_RATE EQ_ decimalValue
+    ;
+
+delayMillis
+    : DELAY_MILLIS EQ_ intValue
+    ;
+
 confPath
     : STRING_
     ;
@@ -171,6 +187,10 @@ intValue
     : INT_
     ;
 
+decimalValue
+    : INT_ (DOT_ INT_)?
+    ;
+
 prepareDistSQL
     : PREPARE DISTSQL
     ;
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ConvertYamlConfigurationContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.CountSingleTableRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.DatabaseNameContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.DecodingPluginContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.DisableComputeNodeContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.DiscardDistSQLContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.EnableComputeNodeContext;
@@ -36,6 +37,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.FromSegmentContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.ImportDatabaseConfigurationContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.InstanceIdContext;
+import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.IncrementalCheckContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.InventoryIncrementalRuleContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.LabelComputeNodeContext;
 import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementParser.PasswordContext;
@@ -70,6 +72,7 @@ import org.apache.shardingsphere.distsql.parser.autogen.KernelDistSQLStatementPa
 import org.apache.shardingsphere.distsql.parser.segment.AlgorithmSegment;
 import org.apache.shardingsphere.distsql.parser.segment.DataSourceSegment;
 import org.apache.shardingsphere.distsql.parser.segment.HostnameAndPortBasedDataSourceSegment;
+import org.apache.shardingsphere.distsql.parser.segment.IncrementalCheckSegment;
 import org.apache.shardingsphere.distsql.parser.segment.InventoryIncrementalRuleSegment;
 import org.apache.shardingsphere.distsql.parser.segment.ReadOrWriteSegment;
 import org.apache.shardingsphere.distsql.parser.segment.URLBasedDataSourceSegment;
@@ -351,12 +354,20 @@ public final class KernelDistSQLStatementVisitor extends KernelDistSQLStatementB
         if (null != ctx.streamChannel()) {
             result.setStreamChannel((AlgorithmSegment) visit(ctx.streamChannel()));
         }
+        if (null != ctx.incrementalCheck()) {
+            result.setIncrementalCheck((IncrementalCheckSegment) visit(ctx.incrementalCheck()));
+        }
         return result;
     }
     
     @Override
     public ASTNode visitReadDefinition(final ReadDefinitionContext ctx) {
-        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getShardingSize(ctx.shardingSize()), getAlgorithmSegment(ctx.rateLimiter()));
+        return new ReadOrWriteSegment(getWorkerThread(ctx.workerThread()), getBatchSize(ctx.batchSize()), getShardingSize(ctx.shardingSize()), getAlgorithmSegment(ctx.rateLimiter()),
+                getDecodingPlugin(ctx.decodingPlugin()));
+    }
+    
+    private String getDecodingPlugin(final DecodingPluginContext ctx) {
+        return null == ctx ? null : getIdentifierValue(ctx.STRING_());
     }
     
     @Override
@@ -418,6 +429,13 @@ public final class KernelDistSQLStatementVisitor extends KernelDistSQLStatementB
         return visit(ctx.algorithmDefinition());
     }
     
+    @Override
+    public ASTNode visitIncrementalCheck(final IncrementalCheckContext ctx) {
+        Double sampleRate = null == ctx.sampleRate() ? null : Double.parseDouble(ctx.sampleRate().decimalValue().getText());
+        Long delayMillis = null == ctx.delayMillis() ? null : Long.parseLong(ctx.delayMillis().intValue().getText());
+        return new IncrementalCheckSegment(sampleRate, delayMillis);
+    }
+    
     private String getIdentifierValue(final ParseTree context) {
         return null == context ? null : new IdentifierValue(context.getText()).getValue();
     }
@@ -33,4 +33,6 @@ public final class InventoryIncrementalRuleSegment implements ASTNode {
     private ReadOrWriteSegment writeSegment;
     
     private AlgorithmSegment streamChannel;
+    
+    private IncrementalCheckSegment incrementalCheck;
 }
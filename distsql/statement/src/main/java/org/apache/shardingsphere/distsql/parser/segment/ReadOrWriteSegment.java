@@ -36,10 +36,13 @@ public final class ReadOrWriteSegment implements ASTNode {
     
     private final AlgorithmSegment rateLimiter;
     
+    private final String decodingPlugin;
+    
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
         this.workerThread = workerThread;
         this.batchSize = batchSize;
         this.shardingSize = 1000_0000;
         this.rateLimiter = rateLimiter;
+        decodingPlugin = null;
     }
 }
@@ -46,6 +46,7 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -164,140 +165,132 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
+        Set<String> tableSuffixes = new HashSet<>();
         LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
         LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
+        if (calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
+            return tableSuffixes;
+        }
+        Range<LocalDateTime> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime, this::parseLocalDateTime);
+        if (isExactStepUnit(true) && dateTimeRange.lowerEndpoint().isAfter(calculateTimeAsView)) {
+            calculateTimeAsView = calculateTimeAsView.plus(stepUnit.between(calculateTimeAsView, dateTimeRange.lowerEndpoint()) / stepAmount * stepAmount, stepUnit);
+        }
+        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime) && !calculateTimeAsView.isAfter(dateTimeRange.upperEndpoint())) {
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                tableSuffixes.add(calculateTimeAsView.format(tableSuffixPattern));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
     private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
+        Set<String> tableSuffixes = new HashSet<>();
         LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
         LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
         LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
+        if (calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
+            return tableSuffixes;
+        }
+        Range<LocalTime> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime, this::parseLocalTime);
         while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                tableSuffixes.add(calculateTimeAsView.format(tableSuffixPattern));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
     private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
+        Set<String> tableSuffixes = new HashSet<>();
         LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
         LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
         LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+        if (calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
+            return tableSuffixes;
+        }
+        Range<LocalDate> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate, this::parseLocalDate);
+        if (isExactStepUnit(false) && dateTimeRange.lowerEndpoint().isAfter(calculateTimeAsView)) {
+            calculateTimeAsView = calculateTimeAsView.plus(stepUnit.between(calculateTimeAsView, dateTimeRange.lowerEndpoint()) / stepAmount * stepAmount, stepUnit);
+        }
+        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate) && !calculateTimeAsView.isAfter(dateTimeRange.upperEndpoint())) {
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                tableSuffixes.add(tableSuffixPattern.format(calculateTimeAsView));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
     private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
+        Set<String> tableSuffixes = new HashSet<>();
         Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
         Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
         Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+        if (calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
+            return tableSuffixes;
+        }
+        Range<Year> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsYear, dateTimeUpperAsYear, this::parseYear);
+        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear) && !calculateTimeAsView.isAfter(dateTimeRange.upperEndpoint())) {
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                tableSuffixes.add(tableSuffixPattern.format(calculateTimeAsView));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
     private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
+        Set<String> tableSuffixes = new HashSet<>();
         Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
         Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
         Month calculateTimeAsView = calculateTime.query(Month::from);
+        if (calculateTimeAsView.getValue() > dateTimeUpperAsMonth.getValue() || calculateTimeAsView.getValue() + stepAmount > Month.DECEMBER.getValue()) {
+            return tableSuffixes;
+        }
+        Range<Month> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsMonth, dateTimeUpperAsMonth, this::parseMonth);
         while (!(calculateTimeAsView.getValue() > dateTimeUpperAsMonth.getValue()) && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), dateTimeRange)) {
+                tableSuffixes.add(tableSuffixPattern.format(calculateTimeAsView));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
         }
-        return result;
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
     private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
+        Set<String> tableSuffixes = new HashSet<>();
         YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
         YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
         YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+        if (calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
+            return tableSuffixes;
+        }
+        Range<YearMonth> dateTimeRange = createDateTimeRange(range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth, this::parseYearMonth);
+        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth) && !calculateTimeAsView.isAfter(dateTimeRange.upperEndpoint())) {
+            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), dateTimeRange)) {
+                tableSuffixes.add(tableSuffixPattern.format(calculateTimeAsView));
             }
             calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
-    }
-    
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+        return getMatchedTables(tableSuffixes, availableTargetNames);
     }
     
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private boolean isExactStepUnit(final boolean timeBasedSupported) {
+        return ChronoUnit.DAYS == stepUnit || ChronoUnit.WEEKS == stepUnit || timeBasedSupported && stepUnit.isTimeBased();
     }
     
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
+    private <T extends Comparable<? super T>> Range<T> createDateTimeRange(final Range<Comparable<?>> range, final T dateTimeLower, final T dateTimeUpper, final Function<Comparable<?>, T> parser) {
+        T lower = range.hasLowerBound() ? parser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? parser.apply(range.upperEndpoint()) : dateTimeUpper;
         BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
         BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
     }
     
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
-        Month lower = range.hasLowerBound() ? parseMonth(range.lowerEndpoint()) : dateTimeLower;
-        Month upper = range.hasUpperBound() ? parseMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Month> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
-    }
-    
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
+    private <T extends Comparable<? super T>> boolean hasIntersection(final Range<T> calculateRange, final Range<T> dateTimeRange) {
         return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
     }
     
@@ -341,32 +334,21 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
-        if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
+    private Collection<String> getMatchedTables(final Set<String> tableSuffixes, final Collection<String> availableTargetNames) {
+        Set<String> result = new HashSet<>();
+        if (tableSuffixes.isEmpty()) {
+            return result;
         }
-        if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        Set<Integer> tableSuffixLengths = tableSuffixes.stream().map(String::length).collect(Collectors.toSet());
+        for (String each : availableTargetNames) {
+            for (int tableSuffixLength : tableSuffixLengths) {
+                if (each.length() >= tableSuffixLength && tableSuffixes.contains(each.substring(each.length() - tableSuffixLength))) {
+                    result.add(each);
+                    break;
+                }
+            }
         }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
+        return result;
     }
     
     @Override
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Inline expression is compiled without groovy when placeholders only contain sharding columns, integer literals, parentheses, {@code + - * %},
+ * {@code hashCode()}, {@code abs()} and {@code Math.abs()}. Evaluation returns empty if expression is not compiled or sharding values can not be evaluated as groovy does,
+ * and groovy closure should be used instead.</p>
+ */
+public final class CompiledInlineExpression {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(
+            Arrays.asList("it", "this", "super", "delegate", "owner", "class", "metaClass", "properties", "true", "false", "null"));
+    
+    private final String inlineExpression;
+    
+    private final List<ExpressionNode> nodes;
+    
+    private int position;
+    
+    public CompiledInlineExpression(final String inlineExpression) {
+        this.inlineExpression = inlineExpression;
+        nodes = parseSegments();
+    }
+    
+    /**
+     * Judge whether inline expression is compiled.
+     * 
+     * @return is compiled or not
+     */
+    public boolean isCompiled() {
+        return null != nodes;
+    }
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variables variables of sharding column name and sharding value
+     * @return evaluated result, empty if it should be evaluated by groovy
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        if (null == nodes) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder();
+        for (ExpressionNode each : nodes) {
+            Object value = each.evaluate(variables);
+            if (!(value instanceof String || value instanceof Integer || value instanceof Long)) {
+                return Optional.empty();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private List<ExpressionNode> parseSegments() {
+        List<ExpressionNode> result = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('"' == each || '\\' == each) {
+                return null;
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            if (!isNextChar('{')) {
+                return null;
+            }
+            position += 2;
+            if (literal.length() > 0) {
+                String text = literal.toString();
+                result.add(variables -> text);
+                literal.setLength(0);
+            }
+            ExpressionNode placeholder = parseAdditive();
+            skipWhitespaces();
+            if (null == placeholder || !isCurrentChar('}')) {
+                return null;
+            }
+            result.add(placeholder);
+            position++;
+        }
+        if (literal.length() > 0) {
+            String text = literal.toString();
+            result.add(variables -> text);
+        }
+        return result;
+    }
+    
+    private ExpressionNode parseAdditive() {
+        ExpressionNode result = parseMultiplicative();
+        while (null != result) {
+            skipWhitespaces();
+            if (isCurrentChar('+') || isCurrentChar('-')) {
+                char operator = inlineExpression.charAt(position++);
+                result = createArithmeticNode(operator, result, parseMultiplicative());
+            } else {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private ExpressionNode parseMultiplicative() {
+        ExpressionNode result = parseMethodCall();
+        while (null != result) {
+            skipWhitespaces();
+            if (isCurrentChar('*') || isCurrentChar('%')) {
+                char operator = inlineExpression.charAt(position++);
+                result = createArithmeticNode(operator, result, parseMethodCall());
+            } else {
+                return result;
+            }
+        }
+        return null;
+    }
+    
+    private ExpressionNode parseMethodCall() {
+        ExpressionNode result = parsePrimary();
+        while (null != result) {
+            skipWhitespaces();
+            if (!isCurrentChar('.')) {
+                return result;
+            }
+            position++;
+            String methodName = parseIdentifier();
+            if (!("hashCode".equals(methodName) || "abs".equals(methodName)) || !parseEmptyArguments()) {
+                return null;
+            }
+            ExpressionNode target = result;
+            result = "abs".equals(methodName) ? variables -> abs(target.evaluate(variables)) : variables -> hashCode(target.evaluate(variables));
+        }
+        return null;
+    }
+    
+    private ExpressionNode parsePrimary() {
+        skipWhitespaces();
+        if (position >= inlineExpression.length()) {
+            return null;
+        }
+        char current = inlineExpression.charAt(position);
+        if (Character.isDigit(current)) {
+            return parseNumber();
+        }
+        if ('(' == current) {
+            position++;
+            ExpressionNode result = parseAdditive();
+            skipWhitespaces();
+            if (null == result || !isCurrentChar(')')) {
+                return null;
+            }
+            position++;
+            return result;
+        }
+        String identifier = parseIdentifier();
+        if (null == identifier || RESERVED_IDENTIFIERS.contains(identifier)) {
+            return null;
+        }
+        return "Math".equals(identifier) ? parseMathAbs() : createVariableNode(identifier);
+    }
+    
+    private ExpressionNode parseNumber() {
+        int start = position;
+        while (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        String text = inlineExpression.substring(start, position);
+        if (position < inlineExpression.length() && (Character.isLetter(inlineExpression.charAt(position)) || '.' == inlineExpression.charAt(position) || '_' == inlineExpression.charAt(position))
+                || text.length() > 1 && '0' == text.charAt(0) || text.length() > 18) {
+            return null;
+        }
+        long value = Long.parseLong(text);
+        Number result = value <= Integer.MAX_VALUE ? (Number) (int) value : (Number) value;
+        return variables -> result;
+    }
+    
+    private ExpressionNode parseMathAbs() {
+        skipWhitespaces();
+        if (!isCurrentChar('.')) {
+            return null;
+        }
+        position++;
+        if (!"abs".equals(parseIdentifier())) {
+            return null;
+        }
+        skipWhitespaces();
+        if (!isCurrentChar('(')) {
+            return null;
+        }
+        position++;
+        ExpressionNode argument = parseAdditive();
+        skipWhitespaces();
+        if (null == argument || !isCurrentChar(')')) {
+            return null;
+        }
+        position++;
+        return variables -> abs(argument.evaluate(variables));
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespaces();
+        int start = position;
+        while (position < inlineExpression.length() && (Character.isLetterOrDigit(inlineExpression.charAt(position)) || '_' == inlineExpression.charAt(position))) {
+            position++;
+        }
+        return start == position || Character.isDigit(inlineExpression.charAt(start)) ? null : inlineExpression.substring(start, position);
+    }
+    
+    private boolean parseEmptyArguments() {
+        skipWhitespaces();
+        if (!isCurrentChar('(')) {
+            return false;
+        }
+        position++;
+        skipWhitespaces();
+        if (!isCurrentChar(')')) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private void skipWhitespaces() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private boolean isCurrentChar(final char expected) {
+        return position < inlineExpression.length() && expected == inlineExpression.charAt(position);
+    }
+    
+    private boolean isNextChar(final char expected) {
+        return position + 1 < inlineExpression.length() && expected == inlineExpression.charAt(position + 1);
+    }
+    
+    private ExpressionNode createVariableNode(final String name) {
+        return variables -> variables.containsKey(name) ? variables.get(name) : UNSUPPORTED;
+    }
+    
+    private ExpressionNode createArithmeticNode(final char operator, final ExpressionNode left, final ExpressionNode right) {
+        if (null == right) {
+            return null;
+        }
+        return variables -> calculate(operator, left.evaluate(variables), right.evaluate(variables));
+    }
+    
+    private static Object calculate(final char operator, final Object left, final Object right) {
+        if (left instanceof Integer && right instanceof Integer) {
+            return calculate(operator, (int) left, (int) right);
+        }
+        if ((left instanceof Integer || left instanceof Long) && (right instanceof Integer || right instanceof Long)) {
+            return calculate(operator, ((Number) left).longValue(), ((Number) right).longValue());
+        }
+        return UNSUPPORTED;
+    }
+    
+    private static Object calculate(final char operator, final int left, final int right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return 0 == right ? UNSUPPORTED : left % right;
+        }
+    }
+    
+    private static Object calculate(final char operator, final long left, final long right) {
+        switch (operator) {
+            case '+':
+                return left + right;
+            case '-':
+                return left - right;
+            case '*':
+                return left * right;
+            default:
+                return 0L == right ? UNSUPPORTED : left % right;
+        }
+    }
+    
+    private static Object hashCode(final Object value) {
+        return value instanceof String || value instanceof Integer || value instanceof Long ? (Object) value.hashCode() : UNSUPPORTED;
+    }
+    
+    private static Object abs(final Object value) {
+        if (value instanceof Integer) {
+            return Math.abs((int) value);
+        }
+        if (value instanceof Long) {
+            return Math.abs((long) value);
+        }
+        return UNSUPPORTED;
+    }
+    
+    private interface ExpressionNode {
+        
+        Object evaluate(Map<String, ?> variables);
+    }
+}
@@ -40,10 +40,13 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
     
     private int shardingCount;
     
+    private String[] shardingResultSuffixes;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         shardingCount = getShardingCount(props);
+        shardingResultSuffixes = createShardingResultSuffixes();
     }
     
     private int getShardingCount(final Properties props) {
@@ -51,9 +54,17 @@ public final class HashModShardingAlgorithm implements StandardShardingAlgorithm
         return Integer.parseInt(props.getProperty(SHARDING_COUNT_KEY));
     }
     
+    private String[] createShardingResultSuffixes() {
+        String[] result = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            result[i] = String.valueOf(i);
+        }
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String suffix = String.valueOf(hashShardingValue(shardingValue.getValue()) % shardingCount);
+        String suffix = shardingResultSuffixes[(int) (hashShardingValue(shardingValue.getValue()) % shardingCount)];
         return ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, suffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
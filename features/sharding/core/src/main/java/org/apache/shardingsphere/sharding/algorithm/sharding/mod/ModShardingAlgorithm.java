@@ -56,6 +56,8 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
     
     private int maxPaddingSize;
     
+    private String[] shardingResultSuffixes;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -64,6 +66,7 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         stopOffset = getStopOffset(props);
         zeroPadding = isZeroPadding(props);
         maxPaddingSize = calculateMaxPaddingSize();
+        shardingResultSuffixes = createShardingResultSuffixes();
     }
     
     private int getShardingCount(final Properties props) {
@@ -93,9 +96,17 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         return Math.max(result, 1);
     }
     
+    private String[] createShardingResultSuffixes() {
+        String[] result = new String[shardingCount];
+        for (int i = 0; i < shardingCount; i++) {
+            result[i] = getShardingResultSuffix(String.valueOf(i));
+        }
+        return result;
+    }
+    
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        String shardingResultSuffix = getShardingResultSuffix(cutShardingValue(shardingValue.getValue()).mod(new BigInteger(String.valueOf(shardingCount))).toString());
+        String shardingResultSuffix = shardingResultSuffixes[getShardingIndex(shardingValue.getValue())];
         return ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).orElse(null);
     }
     
@@ -115,12 +126,19 @@ public final class ModShardingAlgorithm implements StandardShardingAlgorithm<Com
         BigInteger upper = new BigInteger(shardingValue.getValueRange().upperEndpoint().toString());
         BigInteger shardingCountBigInter = new BigInteger(String.valueOf(shardingCount));
         for (BigInteger i = lower; i.compareTo(upper) <= 0; i = i.add(new BigInteger("1"))) {
-            String shardingResultSuffix = getShardingResultSuffix(String.valueOf(i.mod(shardingCountBigInter)));
+            String shardingResultSuffix = shardingResultSuffixes[i.mod(shardingCountBigInter).intValue()];
             ShardingAutoTableAlgorithmUtil.findMatchedTargetName(availableTargetNames, shardingResultSuffix, shardingValue.getDataNodeInfo()).ifPresent(result::add);
         }
         return result;
     }
     
+    private int getShardingIndex(final Comparable<?> shardingValue) {
+        if (0 == startOffset && 0 == stopOffset && shardingValue instanceof Number) {
+            return (int) Math.floorMod(((Number) shardingValue).longValue(), (long) shardingCount);
+        }
+        return cutShardingValue(shardingValue).mod(new BigInteger(String.valueOf(shardingCount))).intValue();
+    }
+    
     private String getShardingResultSuffix(final String shardingResultSuffix) {
         return zeroPadding ? fillZero(shardingResultSuffix) : shardingResultSuffix;
     }
@@ -19,8 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -29,7 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctCountAggregationUnit implements AggregationUnit {
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private final DistinctValueSet values = new DistinctValueSet();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
@@ -20,8 +20,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -32,7 +30,7 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
     
     private BigDecimal result;
     
-    private final Collection<Comparable<?>> values = new HashSet<>();
+    private final DistinctValueSet values = new DistinctValueSet();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
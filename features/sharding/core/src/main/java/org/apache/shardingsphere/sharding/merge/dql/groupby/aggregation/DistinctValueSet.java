@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * Distinct value set.
+ * 
+ * <p>Integral values of the first integral type merged are kept unboxed in an open addressing hash table, other values are kept in a hash set.</p>
+ */
+public final class DistinctValueSet {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private Class<?> integralValueClass;
+    
+    private long[] integralValues;
+    
+    private int integralValueSize;
+    
+    private boolean containsZero;
+    
+    private final Collection<Comparable<?>> otherValues = new HashSet<>();
+    
+    /**
+     * Add value.
+     * 
+     * @param value value to be added
+     * @return whether value is added
+     */
+    public boolean add(final Comparable<?> value) {
+        return isIntegralValue(value) ? addIntegralValue(((Number) value).longValue()) : otherValues.add(value);
+    }
+    
+    private boolean isIntegralValue(final Comparable<?> value) {
+        if (null == integralValueClass && (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)) {
+            integralValueClass = value.getClass();
+            integralValues = new long[INITIAL_CAPACITY];
+        }
+        return null != value && value.getClass() == integralValueClass;
+    }
+    
+    private boolean addIntegralValue(final long value) {
+        if (0L == value) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            return true;
+        }
+        int mask = integralValues.length - 1;
+        int index = hash(value) & mask;
+        while (0L != integralValues[index]) {
+            if (value == integralValues[index]) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        integralValues[index] = value;
+        if (++integralValueSize << 1 > integralValues.length) {
+            resize();
+        }
+        return true;
+    }
+    
+    private void resize() {
+        long[] oldIntegralValues = integralValues;
+        integralValues = new long[oldIntegralValues.length << 1];
+        int mask = integralValues.length - 1;
+        for (long each : oldIntegralValues) {
+            if (0L == each) {
+                continue;
+            }
+            int index = hash(each) & mask;
+            while (0L != integralValues[index]) {
+                index = (index + 1) & mask;
+            }
+            integralValues[index] = each;
+        }
+    }
+    
+    private int hash(final long value) {
+        long result = value * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ (result >>> 32));
+    }
+    
+    /**
+     * Get size.
+     * 
+     * @return size
+     */
+    public int size() {
+        return integralValueSize + (containsZero ? 1 : 0) + otherValues.size();
+    }
+}
@@ -28,20 +28,23 @@ import java.sql.SQLException;
  */
 public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
     
-    private final PaginationContext pagination;
+    private final long actualOffset;
+    
+    private final Long actualRowCount;
     
     private final boolean skipAll;
     
-    private int rowNumber;
+    private long rowNumber;
     
     public LimitDecoratorMergedResult(final MergedResult mergedResult, final PaginationContext pagination) throws SQLException {
         super(mergedResult);
-        this.pagination = pagination;
+        actualOffset = pagination.getActualOffset();
+        actualRowCount = pagination.getActualRowCount().orElse(null);
         skipAll = skipOffset();
     }
     
     private boolean skipOffset() throws SQLException {
-        for (int i = 0; i < pagination.getActualOffset(); i++) {
+        for (long i = 0; i < actualOffset; i++) {
             if (!getMergedResult().next()) {
                 return true;
             }
@@ -55,9 +58,9 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (skipAll) {
             return false;
         }
-        if (!pagination.getActualRowCount().isPresent()) {
+        if (null == actualRowCount) {
             return getMergedResult().next();
         }
-        return ++rowNumber <= pagination.getActualRowCount().get() && getMergedResult().next();
+        return ++rowNumber <= actualRowCount && getMergedResult().next();
     }
 }
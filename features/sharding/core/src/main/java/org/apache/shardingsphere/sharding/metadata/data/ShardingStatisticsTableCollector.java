@@ -36,10 +36,12 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Sharding statistics table data collector.
@@ -48,7 +50,9 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
-    private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s'";
+    private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = '%s'";
+    
+    private static final int COLUMN_COUNT = 7;
     
     @Override
     public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
@@ -75,23 +79,25 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
     
     private void collectForShardingStatisticTable(final ShardingSphereDatabase shardingSphereDatabase, final ShardingRule shardingRule, final ShardingSphereTableData tableData) throws SQLException {
         int count = 1;
+        Map<String, Map<String, BigDecimal[]>> tableRowsAndDataLengths = new HashMap<>();
         for (TableRule each : shardingRule.getTableRules().values()) {
             for (DataNode dataNode : each.getActualDataNodes()) {
-                List<Object> row = new LinkedList<>();
+                List<Object> row = new ArrayList<>(COLUMN_COUNT);
                 row.add(count++);
                 row.add(shardingSphereDatabase.getName());
                 row.add(each.getLogicTable());
                 row.add(dataNode.getDataSourceName());
                 row.add(dataNode.getTableName());
-                addTableRowsAndDataLength(shardingSphereDatabase.getResourceMetaData().getDataSources(), dataNode, row, shardingSphereDatabase.getProtocolType());
+                addTableRowsAndDataLength(shardingSphereDatabase.getResourceMetaData().getDataSources(), dataNode, row, shardingSphereDatabase.getProtocolType(), tableRowsAndDataLengths);
                 tableData.getRows().add(new ShardingSphereRowData(row));
             }
         }
     }
     
-    private void addTableRowsAndDataLength(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row, final DatabaseType databaseType) throws SQLException {
+    private void addTableRowsAndDataLength(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row, final DatabaseType databaseType,
+                                           final Map<String, Map<String, BigDecimal[]>> tableRowsAndDataLengths) throws SQLException {
         if (databaseType instanceof MySQLDatabaseType) {
-            addForMySQL(dataSources, dataNode, row);
+            addForMySQL(dataSources, dataNode, row, tableRowsAndDataLengths);
         } else if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
             // TODO get postgres rows and data length
             row.add(BigDecimal.ZERO);
@@ -99,22 +105,30 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
         }
     }
     
-    private void addForMySQL(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row) throws SQLException {
-        DataSource dataSource = dataSources.get(dataNode.getDataSourceName());
-        BigDecimal tableRows = BigDecimal.ZERO;
-        BigDecimal dataLength = BigDecimal.ZERO;
+    private void addForMySQL(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row,
+                             final Map<String, Map<String, BigDecimal[]>> tableRowsAndDataLengths) throws SQLException {
+        Map<String, BigDecimal[]> dataSourceTableRowsAndDataLengths = tableRowsAndDataLengths.get(dataNode.getDataSourceName());
+        if (null == dataSourceTableRowsAndDataLengths) {
+            dataSourceTableRowsAndDataLengths = loadMySQLTableRowsAndDataLengths(dataSources.get(dataNode.getDataSourceName()));
+            tableRowsAndDataLengths.put(dataNode.getDataSourceName(), dataSourceTableRowsAndDataLengths);
+        }
+        BigDecimal[] tableRowsAndDataLength = dataSourceTableRowsAndDataLengths.get(dataNode.getTableName());
+        row.add(null == tableRowsAndDataLength ? BigDecimal.ZERO : tableRowsAndDataLength[0]);
+        row.add(null == tableRowsAndDataLength ? BigDecimal.ZERO : tableRowsAndDataLength[1]);
+    }
+    
+    private Map<String, BigDecimal[]> loadMySQLTableRowsAndDataLengths(final DataSource dataSource) throws SQLException {
+        Map<String, BigDecimal[]> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
-            try (ResultSet resultSet = statement.executeQuery(String.format(MYSQL_TABLE_ROWS_AND_DATA_LENGTH, connection.getCatalog(), dataNode.getTableName()))) {
-                if (resultSet.next()) {
-                    tableRows = resultSet.getBigDecimal("TABLE_ROWS");
-                    dataLength = resultSet.getBigDecimal("DATA_LENGTH");
+            try (ResultSet resultSet = statement.executeQuery(String.format(MYSQL_TABLE_ROWS_AND_DATA_LENGTH, connection.getCatalog()))) {
+                while (resultSet.next()) {
+                    result.put(resultSet.getString("TABLE_NAME"), new BigDecimal[]{resultSet.getBigDecimal("TABLE_ROWS"), resultSet.getBigDecimal("DATA_LENGTH")});
                 }
             }
         }
-        row.add(tableRows);
-        row.add(dataLength);
+        return result;
     }
     
     @Override
@@ -347,6 +347,25 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(31));
     }
     
+    @Test
+    public void assertRangeDoShardingByDayInTenYears() {
+        Properties props = new Properties();
+        props.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        props.setProperty("datetime-lower", "2013-01-01 00:00:00");
+        props.setProperty("datetime-upper", "2022-12-31 00:00:00");
+        props.setProperty("sharding-suffix-pattern", "yyyyMMdd");
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("INTERVAL", props));
+        Collection<String> availableTargetNames = new LinkedList<>();
+        for (LocalDate each = LocalDate.of(2013, 1, 1); !each.isAfter(LocalDate.of(2022, 12, 31)); each = each.plusDays(1)) {
+            availableTargetNames.add("t_order_" + each.format(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        }
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2022-12-25 00:00:00", "2022-12-28 00:00:00")));
+        assertThat(actual.size(), is(3));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.atLeast("2022-12-30 12:00:00"))).size(), is(2));
+        assertThat(shardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "create_time", DATA_NODE_INFO, "2022-12-30 12:00:00")), is("t_order_20221230"));
+    }
+    
     @Test
     public void assertPreciseDoShardingByDay() {
         assertThat(shardingAlgorithmByDay.doSharding(availableTablesForDayDataSources,
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.util.expr.InlineExpressionParser;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        assertEvaluateAsGroovy("t_order_${order_id % 16}", Collections.singletonMap("order_id", 37));
+        assertEvaluateAsGroovy("t_order_${order_id % 16}", Collections.singletonMap("order_id", -37));
+        assertEvaluateAsGroovy("t_order_${order_id % 16}", Collections.singletonMap("order_id", 3000000000L));
+    }
+    
+    @Test
+    public void assertEvaluateArithmetic() {
+        assertEvaluateAsGroovy("ds_${(user_id * 3 + 7 - order_id) % 4}_t", createVariables(11, 5L));
+        assertEvaluateAsGroovy("ds_${user_id * 2147483647}", Collections.singletonMap("user_id", 3));
+        assertEvaluateAsGroovy("ds_${user_id + 2147483648}", Collections.singletonMap("user_id", 3));
+    }
+    
+    @Test
+    public void assertEvaluateHash() {
+        assertEvaluateAsGroovy("t_order_${Math.abs(order_id.hashCode()) % 8}", Collections.singletonMap("order_id", "foo_order"));
+        assertEvaluateAsGroovy("t_order_${(order_id.hashCode() % 8).abs()}", Collections.singletonMap("order_id", "bar_order"));
+        assertEvaluateAsGroovy("t_order_${order_id.hashCode() % 8}", Collections.singletonMap("order_id", 10L));
+    }
+    
+    @Test
+    public void assertEvaluateConcatenation() {
+        assertEvaluateAsGroovy("t_${user_id}_${order_id % 2}", createVariables(1, 3L));
+        assertEvaluateAsGroovy("t_${status}", Collections.singletonMap("status", "init"));
+        assertEvaluateAsGroovy("t_order", Collections.singletonMap("order_id", 1));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValues() {
+        CompiledInlineExpression expression = new CompiledInlineExpression("t_order_${order_id % 16}");
+        assertTrue(expression.isCompiled());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", new BigDecimal("1.5"))).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", "1")).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("user_id", 1)).isPresent());
+        assertFalse(expression.evaluate(Collections.singletonMap("order_id", null)).isPresent());
+        assertFalse(new CompiledInlineExpression("t_order_${order_id % 0}").evaluate(Collections.singletonMap("order_id", 1)).isPresent());
+    }
+    
+    @Test
+    public void assertNotCompiled() {
+        assertFalse(new CompiledInlineExpression("t_order_${order_id / 2}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${order_id.intdiv(2)}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${it}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${010}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${order_id % 2L}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_$order_id").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${order_id % 2").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${['a', 'b']}").isCompiled());
+        assertFalse(new CompiledInlineExpression("t_order_${Math.max(order_id, 1)}").isCompiled());
+    }
+    
+    private Map<String, Object> createVariables(final Object userId, final Object orderId) {
+        Map<String, Object> result = new HashMap<>(2, 1);
+        result.put("user_id", userId);
+        result.put("order_id", orderId);
+        return result;
+    }
+    
+    private void assertEvaluateAsGroovy(final String inlineExpression, final Map<String, ?> variables) {
+        Optional<String> actual = new CompiledInlineExpression(inlineExpression).evaluate(variables);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(evaluateByGroovy(inlineExpression, variables)));
+    }
+    
+    private String evaluateByGroovy(final String inlineExpression, final Map<String, ?> variables) {
+        Closure<?> closure = new InlineExpressionParser(inlineExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class DistinctValueSetTest {
+    
+    @Test
+    public void assertAddIntegralValues() {
+        DistinctValueSet actual = new DistinctValueSet();
+        for (long i = -1000L; i < 1000L; i++) {
+            assertThat(actual.add(i), is(true));
+        }
+        for (long i = -1000L; i < 1000L; i++) {
+            assertThat(actual.add(i), is(false));
+        }
+        assertThat(actual.size(), is(2000));
+    }
+    
+    @Test
+    public void assertAddMixedTypeValues() {
+        DistinctValueSet actual = new DistinctValueSet();
+        assertThat(actual.add(1L), is(true));
+        assertThat(actual.add(1), is(true));
+        assertThat(actual.add(1), is(false));
+        assertThat(actual.add("1"), is(true));
+        assertThat(actual.add("1"), is(false));
+        assertThat(actual.add(0L), is(true));
+        assertThat(actual.add(0L), is(false));
+        assertThat(actual.size(), is(4));
+    }
+}
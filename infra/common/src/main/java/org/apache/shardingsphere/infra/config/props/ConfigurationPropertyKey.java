@@ -52,6 +52,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max opened connection size for each DDL out of transaction, DDL on actual tables of same data source will be executed in parallel with these connections.
+     */
+    MAX_DDL_CONNECTIONS_SIZE_PER_QUERY("max-ddl-connections-size-per-query", String.valueOf(1), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -122,6 +122,7 @@ public final class ShardingSphereMetaData {
     
     private void closeResources(final ShardingSphereDatabase database) {
         String databaseName = database.getName();
+        database.clearCachedObjects();
         globalRuleMetaData.findRules(ResourceHeldRule.class).forEach(each -> each.closeStaleResource(databaseName));
         database.getRuleMetaData().findRules(ResourceHeldRule.class).forEach(each -> each.closeStaleResource(databaseName));
         database.getRuleMetaData().findSingleRule(DynamicDataSourceContainedRule.class).ifPresent(DynamicDataSourceContainedRule::closeHeartBeatJob);
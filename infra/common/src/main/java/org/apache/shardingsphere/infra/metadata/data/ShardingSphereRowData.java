@@ -17,12 +17,12 @@
 
 package org.apache.shardingsphere.infra.metadata.data;
 
+import com.google.common.io.BaseEncoding;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.List;
@@ -56,7 +56,6 @@ public final class ShardingSphereRowData {
     @SneakyThrows
     private String useMd5GenerateUniqueKey(final StringBuilder uniqueKeyText) {
         MessageDigest md5 = MessageDigest.getInstance("MD5");
-        md5.update(StandardCharsets.UTF_8.encode(uniqueKeyText.toString()));
-        return String.format("%032x", new BigInteger(1, md5.digest()));
+        return BaseEncoding.base16().lowerCase().encode(md5.digest(uniqueKeyText.toString().getBytes(StandardCharsets.UTF_8)));
     }
 }
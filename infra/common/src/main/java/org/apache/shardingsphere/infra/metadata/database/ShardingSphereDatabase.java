@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
@@ -42,6 +43,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -60,6 +62,9 @@ public final class ShardingSphereDatabase {
     
     private final Map<String, ShardingSphereSchema> schemas;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, Object> cachedObjects = new ConcurrentHashMap<>();
+    
     public ShardingSphereDatabase(final String name, final DatabaseType protocolType, final ShardingSphereResourceMetaData resourceMetaData,
                                   final ShardingSphereRuleMetaData ruleMetaData, final Map<String, ShardingSphereSchema> schemas) {
         this.name = name;
@@ -173,6 +178,37 @@ public final class ShardingSphereDatabase {
         return !resourceMetaData.getDataSources().isEmpty();
     }
     
+    /**
+     * Find cached object.
+     * 
+     * <p>Cached objects live as long as current database, they are discarded once database is dropped, replaced or its rules are reloaded.</p>
+     *
+     * @param type type of cached object
+     * @param <T> type of cached object
+     * @return found cached object
+     */
+    public <T> Optional<T> findCachedObject(final Class<T> type) {
+        return Optional.ofNullable(cachedObjects.get(type)).map(type::cast);
+    }
+    
+    /**
+     * Put cached object.
+     *
+     * @param type type of cached object
+     * @param cachedObject cached object
+     * @param <T> type of cached object
+     */
+    public <T> void putCachedObject(final Class<T> type, final T cachedObject) {
+        cachedObjects.put(type, cachedObject);
+    }
+    
+    /**
+     * Clear cached objects.
+     */
+    public void clearCachedObjects() {
+        cachedObjects.clear();
+    }
+    
     /**
      * Reload rules.
      *
@@ -188,5 +224,6 @@ public final class ShardingSphereDatabase {
         });
         ruleMetaData.getRules().clear();
         ruleMetaData.getRules().addAll(databaseRules);
+        cachedObjects.clear();
     }
 }
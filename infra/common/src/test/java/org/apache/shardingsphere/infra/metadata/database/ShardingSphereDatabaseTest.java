@@ -70,7 +70,20 @@ public final class ShardingSphereDatabaseTest {
         rules.add(mock(TableContainedRule.class, RETURNS_DEEP_STUBS));
         ShardingSphereRuleMetaData ruleMetaData = new ShardingSphereRuleMetaData(rules);
         ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), resourceMetaData, ruleMetaData, Collections.emptyMap());
+        database.putCachedObject(String.class, "foo_value");
         database.reloadRules(MutableDataNodeRule.class);
         assertThat(database.getRuleMetaData().getRules().size(), is(3));
+        assertFalse(database.findCachedObject(String.class).isPresent());
+    }
+    
+    @Test
+    public void assertFindCachedObject() {
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList()), Collections.emptyMap());
+        assertFalse(database.findCachedObject(String.class).isPresent());
+        database.putCachedObject(String.class, "foo_value");
+        assertThat(database.findCachedObject(String.class).get(), is("foo_value"));
+        database.clearCachedObjects();
+        assertFalse(database.findCachedObject(String.class).isPresent());
     }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.context.kernel;
 
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
@@ -30,9 +32,15 @@ import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Kernel processor.
+ * 
+ * <p>Route engine and rewrite entry are cached on database and shared by all kernel processors, they are rebuilt once rules or props changed.</p>
  */
 public final class KernelProcessor {
     
@@ -48,21 +56,22 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
+        KernelEngines kernelEngines = getKernelEngines(database, globalRuleMetaData, props);
+        RouteContext routeContext = kernelEngines.getSqlRouteEngine().route(connectionContext, queryContext, database);
+        SQLRewriteResult rewriteResult = kernelEngines.getSqlRewriteEntry().rewrite(
+                queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
         ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
         logSQL(queryContext, props, result);
         return result;
     }
     
-    private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database, final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, database);
-    }
-    
-    private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
-                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+    private KernelEngines getKernelEngines(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        KernelEngines result = database.findCachedObject(KernelEngines.class).orElse(null);
+        if (null == result || !result.isAvailable(database, globalRuleMetaData, props)) {
+            result = new KernelEngines(database, globalRuleMetaData, props);
+            database.putCachedObject(KernelEngines.class, result);
+        }
+        return result;
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -74,4 +83,34 @@ public final class KernelProcessor {
             SQLLogger.logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
         }
     }
+    
+    @Getter
+    private static final class KernelEngines {
+        
+        @Getter(AccessLevel.NONE)
+        private final ShardingSphereRuleMetaData globalRuleMetaData;
+        
+        @Getter(AccessLevel.NONE)
+        private final ConfigurationProperties props;
+        
+        @Getter(AccessLevel.NONE)
+        private final List<ShardingSphereRule> rules;
+        
+        private final SQLRouteEngine sqlRouteEngine;
+        
+        private final SQLRewriteEntry sqlRewriteEntry;
+        
+        KernelEngines(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+            this.globalRuleMetaData = globalRuleMetaData;
+            this.props = props;
+            rules = new ArrayList<>();
+            database.getRuleMetaData().getRules().forEach(rules::add);
+            sqlRouteEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), props);
+            sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+        }
+        
+        boolean isAvailable(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+            return this.globalRuleMetaData == globalRuleMetaData && this.props == props && rules.equals(database.getRuleMetaData().getRules());
+        }
+    }
 }
@@ -29,18 +29,23 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
 import org.junit.Test;
+import org.mockito.MockedConstruction;
 
 import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 public final class KernelProcessorTest {
@@ -59,6 +64,51 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithKernelEnginesSharedByProcessors() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        try (
+                MockedConstruction<SQLRouteEngine> routeEngines = mockConstruction(SQLRouteEngine.class,
+                        (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(new RouteContext()))) {
+            new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+            new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+            assertThat(routeEngines.constructed().size(), is(1));
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithKernelEnginesBoundToDatabase() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        ShardingSphereDatabase sameNameDatabase = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        try (
+                MockedConstruction<SQLRouteEngine> routeEngines = mockConstruction(SQLRouteEngine.class,
+                        (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(new RouteContext()))) {
+            new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+            new KernelProcessor().generateExecutionContext(queryContext, sameNameDatabase, globalRuleMetaData, props, mock(ConnectionContext.class));
+            new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+            new KernelProcessor().generateExecutionContext(queryContext, sameNameDatabase, globalRuleMetaData, props, mock(ConnectionContext.class));
+            assertThat(routeEngines.constructed().size(), is(2));
+            database.clearCachedObjects();
+            new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+            assertThat(routeEngines.constructed().size(), is(3));
+        }
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
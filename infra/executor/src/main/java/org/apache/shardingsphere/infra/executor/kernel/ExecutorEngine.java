@@ -128,7 +128,14 @@ public final class ExecutorEngine implements AutoCloseable {
     private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException ex) {
+            awaitRestResults(restResultFutures.iterator(), ex);
+            throw ex;
+        }
+        return getGroupResults(firstResults, restResultFutures);
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
@@ -150,21 +157,42 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
         List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+        Iterator<Future<Collection<O>>> iterator = restFutures.iterator();
+        while (iterator.hasNext()) {
             try {
-                result.addAll(each.get());
-            } catch (final InterruptedException | ExecutionException ex) {
-                return throwException(ex);
+                result.addAll(iterator.next().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw createException(iterator, ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof SQLException) {
+                    SQLException sqlException = (SQLException) ex.getCause();
+                    awaitRestResults(iterator, sqlException);
+                    throw sqlException;
+                }
+                throw createException(iterator, ex);
             }
         }
         return result;
     }
     
-    private <O> List<O> throwException(final Exception exception) throws SQLException {
-        if (exception.getCause() instanceof SQLException) {
-            throw (SQLException) exception.getCause();
+    private <O> UnknownSQLException createException(final Iterator<Future<Collection<O>>> restFutures, final Exception cause) {
+        UnknownSQLException result = new UnknownSQLException(cause);
+        awaitRestResults(restFutures, result);
+        return result;
+    }
+    
+    private <O> void awaitRestResults(final Iterator<Future<Collection<O>>> restFutures, final Exception exception) {
+        while (restFutures.hasNext()) {
+            try {
+                restFutures.next().get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                exception.addSuppressed(ex);
+            } catch (final ExecutionException ex) {
+                exception.addSuppressed(null == ex.getCause() ? ex : ex.getCause());
+            }
         }
-        throw new UnknownSQLException(exception);
     }
     
     @Override
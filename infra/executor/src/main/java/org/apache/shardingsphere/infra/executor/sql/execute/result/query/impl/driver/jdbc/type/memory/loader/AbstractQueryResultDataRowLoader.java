@@ -24,9 +24,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -36,11 +36,13 @@ public abstract class AbstractQueryResultDataRowLoader implements DialectQueryRe
     
     @Override
     public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+        Collection<MemoryQueryResultDataRow> result = new ArrayDeque<>();
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int[] columnTypes = getColumnTypes(metaData, columnCount);
         while (resultSet.next()) {
             List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                Object rowValue = loadRowValue(resultSet, columnIndex);
+                Object rowValue = loadRowValue(resultSet, metaData, columnTypes[columnIndex - 1], columnIndex);
                 rowData.add(resultSet.wasNull() ? null : rowValue);
             }
             result.add(new MemoryQueryResultDataRow(rowData));
@@ -48,10 +50,17 @@ public abstract class AbstractQueryResultDataRowLoader implements DialectQueryRe
         return result;
     }
     
+    private int[] getColumnTypes(final ResultSetMetaData metaData, final int columnCount) throws SQLException {
+        int[] result = new int[columnCount];
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result[columnIndex - 1] = metaData.getColumnType(columnIndex);
+        }
+        return result;
+    }
+    
     @SuppressWarnings("ReturnOfNull")
-    private Object loadRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
+    private Object loadRowValue(final ResultSet resultSet, final ResultSetMetaData metaData, final int columnType, final int columnIndex) throws SQLException {
+        switch (columnType) {
             case Types.BOOLEAN:
                 return resultSet.getBoolean(columnIndex);
             case Types.TINYINT:
@@ -42,6 +42,8 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     private final Iterator<MemoryQueryResultDataRow> rows;
     
+    private final boolean releaseConsumedRows;
+    
     @Getter
     private MemoryQueryResultDataRow currentRow;
     
@@ -51,8 +53,13 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     private boolean wasNull;
     
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        this(metaData, rows, false);
+    }
+    
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows, final boolean releaseConsumedRows) {
         this.metaData = metaData;
         this.rows = rows.iterator();
+        this.releaseConsumedRows = releaseConsumedRows;
         rowCount = rows.size();
     }
     
@@ -60,6 +67,9 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     public final boolean next() {
         if (rows.hasNext()) {
             currentRow = rows.next();
+            if (releaseConsumedRows) {
+                rows.remove();
+            }
             rowCount--;
             return true;
         }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.CursorAvailable;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+
+/**
+ * Max connections size per query util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MaxConnectionsSizePerQueryUtil {
+    
+    /**
+     * Get max connections size per query.
+     * 
+     * <p>DDL statement out of transaction can use more connections, which is configured by max DDL connections size per query.</p>
+     *
+     * @param props configuration properties
+     * @param sqlStatementContext SQL statement context
+     * @param isInTransaction whether in transaction
+     * @return max connections size per query
+     */
+    public static int getMaxConnectionsSizePerQuery(final ConfigurationProperties props, final SQLStatementContext<?> sqlStatementContext, final boolean isInTransaction) {
+        int result = props.<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+        if (sqlStatementContext.getSqlStatement() instanceof DDLStatement && !(sqlStatementContext instanceof CursorAvailable) && !isInTransaction) {
+            return Math.max(result, props.<Integer>getValue(ConfigurationPropertyKey.MAX_DDL_CONNECTIONS_SIZE_PER_QUERY));
+        }
+        return result;
+    }
+}
@@ -26,12 +26,17 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -89,6 +94,33 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertParallelExecuteWithFailures() {
+        ExecutionGroupContext<Object> executionGroupContext = createMockedExecutionGroups(3, 1);
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            throw new SQLException(isTrunkThread ? "trunk" : "branch");
+        }));
+        assertThat(actual.getMessage(), is("trunk"));
+        assertThat(actual.getSuppressed().length, is(2));
+        assertThat(actual.getSuppressed()[0].getMessage(), is("branch"));
+    }
+    
+    @Test
+    public void assertParallelExecuteWithBranchFailures() {
+        ExecutionGroupContext<Object> executionGroupContext = createMockedExecutionGroups(3, 1);
+        AtomicInteger branchCount = new AtomicInteger();
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            if (isTrunkThread) {
+                return Collections.emptyList();
+            }
+            throw new SQLException("branch_" + branchCount.incrementAndGet());
+        }));
+        assertThat(actual.getMessage(), startsWith("branch_"));
+        assertThat(actual.getSuppressed().length, is(1));
+        assertThat(actual.getSuppressed()[0].getMessage(), startsWith("branch_"));
+        assertThat(actual.getSuppressed()[0].getMessage(), not(actual.getMessage()));
+    }
+    
     @Test
     public void assertSerialExecute() throws SQLException, InterruptedException {
         List<String> actual = executorEngine.execute(executionGroupContext, firstCallback, callback, true);
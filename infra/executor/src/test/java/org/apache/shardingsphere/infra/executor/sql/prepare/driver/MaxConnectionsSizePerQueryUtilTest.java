@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.driver;
+
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MaxConnectionsSizePerQueryUtilTest {
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(createProperties());
+    
+    @Test
+    public void assertGetMaxConnectionsSizePerQueryWithDMLStatement() {
+        assertThat(MaxConnectionsSizePerQueryUtil.getMaxConnectionsSizePerQuery(props, mockSQLStatementContext(mock(SelectStatement.class)), false), is(1));
+    }
+    
+    @Test
+    public void assertGetMaxConnectionsSizePerQueryWithDDLStatement() {
+        assertThat(MaxConnectionsSizePerQueryUtil.getMaxConnectionsSizePerQuery(props, mockSQLStatementContext(mock(DDLStatement.class)), false), is(10));
+    }
+    
+    @Test
+    public void assertGetMaxConnectionsSizePerQueryWithDDLStatementInTransaction() {
+        assertThat(MaxConnectionsSizePerQueryUtil.getMaxConnectionsSizePerQuery(props, mockSQLStatementContext(mock(DDLStatement.class)), true), is(1));
+    }
+    
+    private static Properties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "1");
+        result.setProperty(ConfigurationPropertyKey.MAX_DDL_CONNECTIONS_SIZE_PER_QUERY.getKey(), "10");
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private SQLStatementContext<?> mockSQLStatementContext(final SQLStatement sqlStatement) {
+        SQLStatementContext result = mock(SQLStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(sqlStatement);
+        return result;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.rewrite.sql.token.pojo.generic.Substituta
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -44,9 +45,13 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             return context.getSql();
         }
         Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql(), 0, context.getSqlTokens().get(0).getStartIndex());
-        for (SQLToken each : context.getSqlTokens()) {
+        List<SQLToken> sqlTokens = context.getSqlTokens();
+        String sql = context.getSql();
+        StringBuilder result = new StringBuilder(sql.length() + (sql.length() >> 1));
+        result.append(sql, 0, sqlTokens.get(0).getStartIndex());
+        int sqlTokenSize = sqlTokens.size();
+        for (int i = 0; i < sqlTokenSize; i++) {
+            SQLToken each = sqlTokens.get(i);
             if (each instanceof ComposableSQLToken) {
                 result.append(getComposableSQLTokenText((ComposableSQLToken) each));
             } else if (each instanceof SubstitutableColumnNameToken) {
@@ -54,7 +59,8 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
             } else {
                 result.append(getSQLTokenText(each));
             }
-            result.append(getConjunctionText(each));
+            int stopIndex = sqlTokenSize - 1 == i ? sql.length() : sqlTokens.get(i + 1).getStartIndex();
+            result.append(sql, getStartIndex(each), stopIndex);
         }
         return result.toString();
     }
@@ -65,15 +71,11 @@ public abstract class AbstractSQLBuilder implements SQLBuilder {
         StringBuilder result = new StringBuilder();
         for (SQLToken each : composableSQLToken.getSqlTokens()) {
             result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+            result.append(context.getSql(), getStartIndex(each), getStopIndex(each));
         }
         return result.toString();
     }
     
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
     private int getStartIndex(final SQLToken sqlToken) {
         int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
         return Math.min(startIndex, context.getSql().length());
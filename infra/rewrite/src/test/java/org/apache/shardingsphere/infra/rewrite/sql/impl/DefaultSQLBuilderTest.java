@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.infra.rewrite.sql.fixture.SQLTokenFixture;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -45,4 +47,12 @@ public final class DefaultSQLBuilderTest {
         when(context.getSqlTokens()).thenReturn(Collections.singletonList(new SQLTokenFixture(14, 16)));
         assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE id=?"));
     }
+    
+    @Test
+    public void assertToSQLWithUnsortedSQLTokens() {
+        SQLRewriteContext context = mock(SQLRewriteContext.class);
+        when(context.getSql()).thenReturn("SELECT * FROM tbl WHERE id=?");
+        when(context.getSqlTokens()).thenReturn(new ArrayList<>(Arrays.asList(new SQLTokenFixture(24, 25), new SQLTokenFixture(14, 16))));
+        assertThat(new DefaultSQLBuilder(context).toSQL(), is("SELECT * FROM XXX WHERE XXX=?"));
+    }
 }
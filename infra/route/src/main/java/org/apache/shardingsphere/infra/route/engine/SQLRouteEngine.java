@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.route.engine;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
@@ -35,12 +34,13 @@ import java.util.Collection;
 /**
  * SQL route engine.
  */
-@RequiredArgsConstructor
 public final class SQLRouteEngine {
     
-    private final Collection<ShardingSphereRule> rules;
+    private final SQLRouteExecutor partialSQLRouteExecutor;
     
-    private final ConfigurationProperties props;
+    public SQLRouteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        partialSQLRouteExecutor = new PartialSQLRouteExecutor(rules, props);
+    }
     
     /**
      * Route SQL.
@@ -51,7 +51,7 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final ConnectionContext connectionContext, final QueryContext queryContext, final ShardingSphereDatabase database) {
-        SQLRouteExecutor executor = isNeedAllSchemas(queryContext.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
+        SQLRouteExecutor executor = isNeedAllSchemas(queryContext.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : partialSQLRouteExecutor;
         return executor.route(connectionContext, queryContext, database);
     }
     
@@ -41,8 +41,10 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -85,6 +87,28 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         verify(preparedStatement).executeBatch();
     }
     
+    @Test
+    public void assertAddBatchForExecutionUnits() {
+        actual.addBatchForExecutionUnits(Arrays.asList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1)))),
+                new ExecutionUnit("ds_1", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        assertThat(actual.getBatchExecutionUnits().size(), is(2));
+        BatchExecutionUnit batchExecutionUnit = actual.getBatchExecutionUnits().iterator().next();
+        assertThat(batchExecutionUnit.getExecutionUnit().getSqlUnit().getParameters(), is(Arrays.<Object>asList(1, 2)));
+        assertThat(batchExecutionUnit.getJdbcAndActualAddBatchCallTimesMap().get(1), is(1));
+    }
+    
+    @Test
+    public void assertGetParameterSet() throws SQLException {
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(1))))));
+        actual.addBatchForExecutionUnits(Collections.singletonList(new ExecutionUnit("ds_0", new SQLUnit(SQL, new LinkedList<>(Collections.singletonList(2))))));
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        List<JDBCExecutionUnit> executionUnits = Collections.singletonList(
+                new JDBCExecutionUnit(new ExecutionUnit("ds_0", new SQLUnit(SQL, Collections.emptyList())), ConnectionMode.MEMORY_STRICTLY, preparedStatement));
+        actual.init(new ExecutionGroupContext<>(Collections.singletonList(new ExecutionGroup<>(executionUnits))));
+        assertThat(actual.getParameterSet(preparedStatement), is(Arrays.asList(Collections.<Object>singletonList(1), Collections.<Object>singletonList(2))));
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement result = mock(PreparedStatement.class);
         Connection connection = mock(Connection.class);
@@ -153,6 +177,11 @@ public final class BatchPreparedStatementExecutorTest extends AbstractBaseExecut
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnits");
         field.setAccessible(true);
         field.set(actual, batchExecutionUnits);
+        Map<ExecutionUnit, BatchExecutionUnit> batchExecutionUnitIndexes = new HashMap<>();
+        batchExecutionUnits.forEach(each -> batchExecutionUnitIndexes.putIfAbsent(each.getExecutionUnit(), each));
+        field = BatchPreparedStatementExecutor.class.getDeclaredField("batchExecutionUnitIndexes");
+        field.setAccessible(true);
+        field.set(actual, batchExecutionUnitIndexes);
         field = BatchPreparedStatementExecutor.class.getDeclaredField("batchCount");
         field.setAccessible(true);
         field.set(actual, 2);
@@ -50,6 +50,10 @@ public class DumperConfiguration {
     
     private TableNameSchemaNameMapping tableNameSchemaNameMapping;
     
+    private int blockQueueSize = 10000;
+    
+    private String decodingPlugin;
+    
     /**
      * Get logic table name.
      *
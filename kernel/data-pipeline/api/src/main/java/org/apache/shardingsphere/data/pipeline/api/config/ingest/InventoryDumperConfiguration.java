@@ -20,8 +20,11 @@ package org.apache.shardingsphere.data.pipeline.api.config.ingest;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 
+import java.util.List;
+
 /**
  * Inventory dumper configuration.
  */
@@ -39,6 +42,8 @@ public final class InventoryDumperConfiguration extends DumperConfiguration {
     
     private Integer uniqueKeyDataType;
     
+    private List<PipelineColumnMetaData> uniqueKeyColumns;
+    
     private Integer shardingItem;
     
     private int batchSize = 1000;
@@ -35,4 +35,6 @@ public final class PipelineProcessConfiguration {
     private final PipelineWriteConfiguration write;
     
     private final AlgorithmConfiguration streamChannel;
+    
+    private final PipelineIncrementalCheckConfiguration incrementalCheck;
 }
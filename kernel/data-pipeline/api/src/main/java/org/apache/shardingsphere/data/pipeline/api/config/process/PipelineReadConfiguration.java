@@ -37,4 +37,6 @@ public final class PipelineReadConfiguration {
     private final Integer shardingSize;
     
     private final AlgorithmConfiguration rateLimiter;
+    
+    private final String decodingPlugin;
 }
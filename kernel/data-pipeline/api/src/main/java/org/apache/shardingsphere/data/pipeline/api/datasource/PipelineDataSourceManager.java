@@ -22,7 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDat
 /**
  * Pipeline data source manager.
  */
-public interface PipelineDataSourceManager {
+public interface PipelineDataSourceManager extends AutoCloseable {
     
     /**
      * Get cached data source.
@@ -35,5 +35,6 @@ public interface PipelineDataSourceManager {
     /**
      * Close, close cached data source.
      */
+    @Override
     void close();
 }
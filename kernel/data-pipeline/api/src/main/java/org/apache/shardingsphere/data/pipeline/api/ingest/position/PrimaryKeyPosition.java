@@ -38,10 +38,14 @@ public abstract class PrimaryKeyPosition<T> {
     
     protected abstract T convert(String value);
     
+    protected String convertToString(final T value) {
+        return String.valueOf(value);
+    }
+    
     protected abstract char getType();
     
     @Override
     public final String toString() {
-        return String.format("%s,%s,%s", getType(), getBeginValue(), getEndValue());
+        return String.format("%s,%s,%s", getType(), convertToString(getBeginValue()), convertToString(getEndValue()));
     }
 }
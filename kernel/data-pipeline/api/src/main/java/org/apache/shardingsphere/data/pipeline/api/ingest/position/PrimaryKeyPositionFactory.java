@@ -32,7 +32,7 @@ public final class PrimaryKeyPositionFactory {
      * @return primary key position
      */
     public static IngestPosition<?> newInstance(final String data) {
-        String[] array = data.split(",");
+        String[] array = data.split(",", -1);
         Preconditions.checkArgument(3 == array.length, "Unknown primary key position: " + data);
         Preconditions.checkArgument(1 == array[0].length(), "Invalid primary key position type: " + array[0]);
         char type = array[0].charAt(0);
@@ -43,6 +43,8 @@ public final class PrimaryKeyPositionFactory {
                 return new IntegerPrimaryKeyPosition(Long.parseLong(beginValue), Long.parseLong(endValue));
             case 's':
                 return new StringPrimaryKeyPosition(beginValue, endValue);
+            case 't':
+                return new TuplePrimaryKeyPosition(beginValue, endValue);
             default:
                 throw new IllegalArgumentException("Unknown primary key position type: " + type);
         }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.position;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tuple primary key position, for composite unique key or unique key which is neither integer nor string.
+ *
+ * <p>Key values are compared as row value. Begin value is exclusive and end value is inclusive, null means unbounded.
+ * Key values are kept as string, and every value is URL encoded and separated by space when persisting.</p>
+ */
+@Getter
+public final class TuplePrimaryKeyPosition extends PrimaryKeyPosition<List<String>> implements IngestPosition<TuplePrimaryKeyPosition> {
+    
+    private static final String VALUE_SEPARATOR = " ";
+    
+    private final List<String> beginValue;
+    
+    private final List<String> endValue;
+    
+    public TuplePrimaryKeyPosition(final List<String> beginValue, final List<String> endValue) {
+        this.beginValue = beginValue;
+        this.endValue = endValue;
+    }
+    
+    public TuplePrimaryKeyPosition(final String beginValue, final String endValue) {
+        this.beginValue = convert(beginValue);
+        this.endValue = convert(endValue);
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    @Override
+    protected List<String> convert(final String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        for (String each : value.split(VALUE_SEPARATOR, -1)) {
+            result.add(URLDecoder.decode(each, StandardCharsets.UTF_8.name()));
+        }
+        return result;
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    @Override
+    protected String convertToString(final List<String> value) {
+        if (null == value) {
+            return "";
+        }
+        List<String> result = new ArrayList<>(value.size());
+        for (String each : value) {
+            result.add(URLEncoder.encode(each, StandardCharsets.UTF_8.name()));
+        }
+        return String.join(VALUE_SEPARATOR, result);
+    }
+    
+    @Override
+    protected char getType() {
+        return 't';
+    }
+    
+    @Override
+    public int compareTo(final TuplePrimaryKeyPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        if (null == beginValue) {
+            return null == position.getBeginValue() ? 0 : -1;
+        }
+        if (null == position.getBeginValue()) {
+            return 1;
+        }
+        for (int i = 0; i < Math.min(beginValue.size(), position.getBeginValue().size()); i++) {
+            int result = beginValue.get(i).compareTo(position.getBeginValue().get(i));
+            if (0 != result) {
+                return result;
+            }
+        }
+        return Integer.compare(beginValue.size(), position.getBeginValue().size());
+    }
+}
@@ -25,7 +25,6 @@ import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -39,7 +38,7 @@ public final class DataRecord extends Record {
     
     private final List<Column> columns;
     
-    private final List<Object> uniqueKeyValue = new LinkedList<>();
+    private final List<Object> uniqueKeyValue = new ArrayList<>();
     
     private final List<Object> oldUniqueKeyValues = new ArrayList<>();
     
@@ -47,6 +46,8 @@ public final class DataRecord extends Record {
     
     private String tableName;
     
+    private String actualTableName;
+    
     private Long csn;
     
     public DataRecord(final IngestPosition<?> position, final int columnCount) {
@@ -43,4 +43,8 @@ public final class InventoryIncrementalJobItemProgress implements PipelineJobIte
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private Double readRateLimit;
+    
+    private Double writeRateLimit;
 }
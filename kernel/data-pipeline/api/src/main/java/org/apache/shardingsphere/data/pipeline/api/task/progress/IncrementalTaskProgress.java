@@ -35,4 +35,6 @@ public final class IncrementalTaskProgress implements TaskProgress {
     private volatile IngestPosition<?> position;
     
     private IncrementalTaskDelay incrementalTaskDelay = new IncrementalTaskDelay();
+    
+    private IncrementalTaskCheckStatistics incrementalTaskCheckStatistics;
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.spi.ingest.position;
 
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
@@ -41,6 +42,18 @@ public interface PositionInitializer extends TypedSPI, RequiredSPI {
      */
     IngestPosition<?> init(DataSource dataSource, String slotNameSuffix) throws SQLException;
     
+    /**
+     * Init position by data source and dumper configuration.
+     *
+     * @param dataSource data source
+     * @param dumperConfig dumper configuration
+     * @return position
+     * @throws SQLException SQL exception
+     */
+    default IngestPosition<?> init(DataSource dataSource, DumperConfiguration dumperConfig) throws SQLException {
+        return init(dataSource, dumperConfig.getJobId());
+    }
+    
     /**
      * Init position by string data.
      *
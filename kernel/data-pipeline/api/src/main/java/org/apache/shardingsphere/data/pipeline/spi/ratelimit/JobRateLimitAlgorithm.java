@@ -20,6 +20,8 @@ package org.apache.shardingsphere.data.pipeline.spi.ratelimit;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.algorithm.ShardingSphereAlgorithm;
 
+import java.util.Optional;
+
 /**
  * Job rate limit algorithm.
  */
@@ -32,4 +34,22 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feed back execution cost of an intercepted operation.
+     *
+     * @param type job operation type
+     * @param costMillis execution cost in milliseconds
+     */
+    default void onExecuted(final JobOperationType type, final long costMillis) {
+    }
+    
+    /**
+     * Get current rate.
+     *
+     * @return current permits per second, empty if the rate is fixed
+     */
+    default Optional<Double> getCurrentRate() {
+        return Optional.empty();
+    }
 }
@@ -65,6 +65,18 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildIndivisibleInventoryDumpSQL(String schemaName, String tableName, String uniqueKey, int uniqueKeyDataType, boolean firstQuery);
     
+    /**
+     * Build tuple inventory dump SQL, unique key columns are compared as row value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKeys unique key columns
+     * @param hasBeginValue whether there is exclusive begin value
+     * @param hasEndValue whether there is inclusive end value
+     * @return tuple inventory dump SQL
+     */
+    String buildTupleInventoryDumpSQL(String schemaName, String tableName, List<String> uniqueKeys, boolean hasBeginValue, boolean hasEndValue);
+    
     /**
      * Build insert SQL.
      *
@@ -102,6 +114,16 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildDeleteSQL(String schemaName, DataRecord dataRecord, Collection<Column> conditionColumns);
     
+    /**
+     * Build query by unique key SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKeyColumns unique key columns
+     * @return query by unique key SQL
+     */
+    String buildQueryByUniqueKeySQL(String schemaName, String tableName, Collection<Column> uniqueKeyColumns);
+    
     /**
      * Build drop SQL.
      *
@@ -151,6 +173,27 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build split by tuple key range SQL, it queries unique key values of the row at given offset after the exclusive begin value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKeys unique key columns
+     * @param hasBeginValue whether there is exclusive begin value
+     * @return split SQL
+     */
+    String buildSplitByTupleKeyRangeSQL(String schemaName, String tableName, List<String> uniqueKeys, boolean hasBeginValue);
+    
+    /**
+     * Build unique key minimum, maximum values and records count SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return min max values SQL
+     */
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -162,4 +205,21 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build chunked checksum SQL.
+     * 
+     * <p>The query returns maximum unique key value, records count and checksum of next chunk of records ordered by unique key,
+     * checksum is calculated in database, so only one row is transferred for every chunk.</p>
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param columnNames column names
+     * @param firstQuery first query
+     * @return chunked checksum SQL
+     */
+    default Optional<String> buildChunkedChecksumSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.empty();
+    }
 }
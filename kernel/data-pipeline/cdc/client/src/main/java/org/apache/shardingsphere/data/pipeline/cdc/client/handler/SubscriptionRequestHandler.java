@@ -19,26 +19,32 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.event.CreateSubscriptionEvent;
+import org.apache.shardingsphere.data.pipeline.cdc.client.parameter.StartCDCClientParameter;
 import org.apache.shardingsphere.data.pipeline.cdc.client.util.RequestIdUtil;
+import org.apache.shardingsphere.data.pipeline.cdc.common.FetchRecordResultCodec;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Builder;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.SubscriptionMode;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.TableName;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StartSubscriptionResult;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Subscription request handler.
  */
 @Slf4j
-@RequiredArgsConstructor
 public final class SubscriptionRequestHandler extends ChannelInboundHandlerAdapter {
     
     private final String database;
@@ -49,6 +55,25 @@ public final class SubscriptionRequestHandler extends ChannelInboundHandlerAdapt
     
     private final SubscriptionMode subscribeMode;
     
+    private final CompressionType compressionType;
+    
+    private final int credits;
+    
+    private final Consumer<List<Record>> recordsConsumer;
+    
+    private volatile int maxBatchBytes;
+    
+    public SubscriptionRequestHandler(final StartCDCClientParameter parameter) {
+        database = parameter.getDatabase();
+        subscriptionName = parameter.getSubscriptionName();
+        subscribeTables = parameter.getSubscribeTables();
+        subscribeMode = parameter.getSubscriptionMode();
+        compressionType = parameter.getCompressionType();
+        credits = parameter.getCredits();
+        recordsConsumer = parameter.getRecordsConsumer();
+        maxBatchBytes = parameter.getMaxBatchBytes();
+    }
+    
     @Override
     public void userEventTriggered(final ChannelHandlerContext ctx, final Object evt) {
         if (evt instanceof CreateSubscriptionEvent) {
@@ -72,11 +97,27 @@ public final class SubscriptionRequestHandler extends ChannelInboundHandlerAdapt
     private void processSucceed(final ChannelHandlerContext ctx, final CDCResponse response) {
         if (response.hasCreateSubscriptionResult()) {
             log.info("create subscription succeed, subscription name {}", response.getCreateSubscriptionResult().getSubscriptionName());
-            StartSubscriptionRequest startSubscriptionRequest = StartSubscriptionRequest.newBuilder().setSubscriptionName(subscriptionName).build();
+            StartSubscriptionRequest startSubscriptionRequest = StartSubscriptionRequest.newBuilder().setSubscriptionName(subscriptionName).setDatabase(database)
+                    .setMaxBatchBytes(maxBatchBytes).setCompressionType(compressionType).setCredits(credits).build();
             Builder builder = CDCRequest.newBuilder().setRequestId(RequestIdUtil.generateRequestId()).setStartSubscription(startSubscriptionRequest);
             ctx.writeAndFlush(builder.build());
+            return;
+        }
+        if (response.hasStartSubscriptionResult()) {
+            StartSubscriptionResult result = response.getStartSubscriptionResult();
+            log.info("start subscription succeed, max batch bytes {}, compression type {}, credits {}", result.getMaxBatchBytes(), result.getCompressionType(), result.getCredits());
+            maxBatchBytes = result.getMaxBatchBytes();
+            return;
+        }
+        if (response.hasFetchRecordResult()) {
+            processFetchRecordResult(ctx, response.getFetchRecordResult());
         }
-        // TODO waiting for pipeline refactoring finished
+    }
+    
+    private void processFetchRecordResult(final ChannelHandlerContext ctx, final FetchRecordResult fetchRecordResult) {
+        recordsConsumer.accept(FetchRecordResultCodec.decode(fetchRecordResult, maxBatchBytes));
+        AckRequest ackRequest = AckRequest.newBuilder().setSubscriptionName(subscriptionName).setAckId(fetchRecordResult.getAckId()).setCredits(1).build();
+        ctx.writeAndFlush(CDCRequest.newBuilder().setRequestId(RequestIdUtil.generateRequestId()).setAckRequest(ackRequest).build());
     }
     
     @Override
@@ -19,16 +19,21 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.SubscriptionMode;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.TableName;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Start CDC client parameter.
  */
 @Getter
 @Setter
+@Slf4j
 public final class StartCDCClientParameter {
     
     private String address;
@@ -46,4 +51,18 @@ public final class StartCDCClientParameter {
     private String subscriptionName;
     
     private SubscriptionMode subscriptionMode = SubscriptionMode.INCREMENTAL;
+    
+    /**
+     * Max bytes of one batch of records, server may lower it.
+     */
+    private int maxBatchBytes = 1024 * 1024;
+    
+    private CompressionType compressionType = CompressionType.NONE;
+    
+    /**
+     * Batches could be pushed by server before acked.
+     */
+    private int credits = 16;
+    
+    private Consumer<List<Record>> recordsConsumer = records -> log.info("received records {}", records);
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.api.pojo.CreateSubscriptionJo
 import org.apache.shardingsphere.data.pipeline.cdc.config.task.CDCTaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.context.CDCProcessContext;
 import org.apache.shardingsphere.data.pipeline.core.api.InventoryIncrementalJobAPI;
+import org.apache.shardingsphere.data.pipeline.spi.importer.connector.ImporterConnector;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 
@@ -39,10 +40,18 @@ public interface CDCJobAPI extends InventoryIncrementalJobAPI, RequiredSPI {
     CDCProcessContext buildPipelineProcessContext(PipelineJobConfiguration pipelineJobConfig);
     
     /**
-     * Create CDC job config and start.
+     * Create CDC job config, the job is started by start subscription request.
      *
      * @param event create CDC job event
      * @return job id
      */
-    String createJobAndStart(CreateSubscriptionJobParameter event);
+    String createJob(CreateSubscriptionJobParameter event);
+    
+    /**
+     * Start CDC job on current instance, records are pushed to client by importer connector.
+     *
+     * @param jobId job id
+     * @param importerConnector importer connector
+     */
+    void startJob(String jobId, ImporterConnector importerConnector);
 }
@@ -20,6 +20,9 @@ package org.apache.shardingsphere.data.pipeline.cdc.context;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCConnectionStatus;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
 
 /**
  * CDC connection context.
@@ -27,6 +30,35 @@ import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCConnectionStatus;
 @Getter
 public final class CDCConnectionContext {
     
+    private static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+    
+    private static final int MAX_BATCH_BYTES_LIMIT = 16 * 1024 * 1024;
+    
+    private static final int DEFAULT_CREDITS = 16;
+    
     @Setter
     private volatile CDCConnectionStatus status;
+    
+    private volatile int maxBatchBytes = DEFAULT_MAX_BATCH_BYTES;
+    
+    private volatile CompressionType compressionType = CompressionType.NONE;
+    
+    private volatile int credits = DEFAULT_CREDITS;
+    
+    @Setter
+    private volatile String jobId;
+    
+    @Setter
+    private volatile CDCImporterConnector importerConnector;
+    
+    /**
+     * Negotiate max batch bytes, compression type and initial credits with start subscription request.
+     *
+     * @param request start subscription request
+     */
+    public void negotiate(final StartSubscriptionRequest request) {
+        maxBatchBytes = request.getMaxBatchBytes() > 0 ? Math.min(request.getMaxBatchBytes(), MAX_BATCH_BYTES_LIMIT) : DEFAULT_MAX_BATCH_BYTES;
+        compressionType = CompressionType.UNRECOGNIZED == request.getCompressionType() ? CompressionType.NONE : request.getCompressionType();
+        credits = request.getCredits() > 0 ? request.getCredits() : DEFAULT_CREDITS;
+    }
 }
@@ -32,7 +32,6 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTable
 import org.apache.shardingsphere.data.pipeline.cdc.config.job.CDCJobConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.config.task.CDCTaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.cdc.context.CDCProcessContext;
-import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
 import org.apache.shardingsphere.data.pipeline.core.context.InventoryIncrementalJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.task.IncrementalTask;
@@ -67,6 +66,8 @@ public final class CDCJobItemContext implements InventoryIncrementalJobItemConte
     
     private final PipelineDataSourceManager dataSourceManager;
     
+    private final ImporterConnector importerConnector;
+    
     private final Collection<InventoryTask> inventoryTasks = new LinkedList<>();
     
     private final Collection<IncrementalTask> incrementalTasks = new LinkedList<>();
@@ -118,11 +119,6 @@ public final class CDCJobItemContext implements InventoryIncrementalJobItemConte
         return sourceMetaDataLoaderLazyInitializer.get();
     }
     
-    @Override
-    public ImporterConnector getImporterConnector() {
-        return new CDCImporterConnector();
-    }
-    
     @Override
     public long getProcessedRecordsCount() {
         throw new UnsupportedOperationException();
@@ -17,21 +17,135 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.executor.AbstractLifecycleExecutor;
 import org.apache.shardingsphere.data.pipeline.api.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.cdc.common.FetchRecordResultCodec;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.util.DataRecordResultConvertUtil;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * CDC importer.
+ *
+ * <p>Records are pushed to client in size-bounded batches, every batch costs one credit. Records are acked to channel after client acks the batch watermark covering them.</p>
  */
+@Slf4j
 public final class CDCImporter extends AbstractLifecycleExecutor implements Importer {
     
+    private static final long CREDIT_WAIT_MILLIS = 100L;
+    
+    private final ImporterConfiguration importerConfig;
+    
+    private final CDCImporterConnector importerConnector;
+    
+    private final PipelineChannel channel;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    private final Queue<PushedRecords> pushedRecordsQueue = new LinkedList<>();
+    
+    public CDCImporter(final ImporterConfiguration importerConfig, final CDCImporterConnector importerConnector, final PipelineChannel channel,
+                       final PipelineJobProgressListener jobProgressListener) {
+        this.importerConfig = importerConfig;
+        this.importerConnector = importerConnector;
+        this.channel = channel;
+        this.jobProgressListener = jobProgressListener;
+    }
+    
     @Override
     protected void runBlocking() {
-        // TODO to be implemented
+        int batchSize = importerConfig.getBatchSize();
+        while (isRunning()) {
+            ackPushedRecords();
+            List<Record> records = channel.fetchRecords(batchSize, 3);
+            if (null == records || records.isEmpty()) {
+                continue;
+            }
+            if (!push(records)) {
+                break;
+            }
+            if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                waitPushedRecordsAcked();
+                break;
+            }
+        }
+    }
+    
+    private boolean push(final List<Record> records) {
+        List<FetchRecordResult.Record> results = records.stream().filter(each -> each instanceof DataRecord).map(each -> convert((DataRecord) each)).collect(Collectors.toList());
+        long ackId = importerConnector.getLastAckId();
+        for (List<FetchRecordResult.Record> each : FetchRecordResultCodec.split(results, importerConnector.getMaxBatchBytes())) {
+            if (!acquireCredit()) {
+                return false;
+            }
+            ackId = importerConnector.write(each);
+        }
+        int insertRecordsCount = (int) records.stream().filter(each -> each instanceof DataRecord && IngestDataChangeType.INSERT.equals(((DataRecord) each).getType())).count();
+        pushedRecordsQueue.add(new PushedRecords(ackId, records, insertRecordsCount));
+        return true;
+    }
+    
+    private FetchRecordResult.Record convert(final DataRecord dataRecord) {
+        return DataRecordResultConvertUtil.convertDataRecordToRecord(importerConnector.getDatabase(), importerConfig.getSchemaName(new LogicTableName(dataRecord.getTableName())), dataRecord);
+    }
+    
+    private boolean acquireCredit() {
+        while (isRunning()) {
+            if (importerConnector.tryAcquireCredit(CREDIT_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            ackPushedRecords();
+        }
+        return false;
+    }
+    
+    private void ackPushedRecords() {
+        long ackedWatermark = importerConnector.getAckedWatermark();
+        while (!pushedRecordsQueue.isEmpty() && pushedRecordsQueue.peek().getAckId() <= ackedWatermark) {
+            PushedRecords pushedRecords = pushedRecordsQueue.poll();
+            channel.ack(pushedRecords.getRecords());
+            jobProgressListener.onProgressUpdated(new PipelineJobProgressUpdatedParameter(pushedRecords.getInsertRecordsCount()));
+        }
+    }
+    
+    private void waitPushedRecordsAcked() {
+        while (isRunning() && !pushedRecordsQueue.isEmpty()) {
+            ThreadUtil.sleep(CREDIT_WAIT_MILLIS);
+            ackPushedRecords();
+        }
     }
     
     @Override
     protected void doStop() {
-        // TODO to be implemented
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class PushedRecords {
+        
+        private final long ackId;
+        
+        private final List<Record> records;
+        
+        private final int insertRecordsCount;
     }
 }
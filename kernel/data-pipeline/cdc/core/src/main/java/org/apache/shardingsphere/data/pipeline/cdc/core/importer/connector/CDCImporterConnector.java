@@ -17,17 +17,96 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector;
 
+import io.netty.channel.Channel;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.common.FetchRecordResultCodec;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
 import org.apache.shardingsphere.data.pipeline.spi.importer.connector.ImporterConnector;
 
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 /**
  * CDC importer connector.
+ *
+ * <p>Every batch pushed to client costs one credit, and the ack id of batch is increasing, so acking one batch acks all batches before it.</p>
  */
 public final class CDCImporterConnector implements ImporterConnector {
     
+    private final Channel channel;
+    
+    @Getter
+    private final String database;
+    
+    @Getter
+    private final int maxBatchBytes;
+    
+    private final CompressionType compressionType;
+    
+    private final Semaphore credits;
+    
+    @Getter
+    private volatile long lastAckId;
+    
+    @Getter
+    private volatile long ackedWatermark;
+    
+    public CDCImporterConnector(final Channel channel, final String database, final int maxBatchBytes, final CompressionType compressionType, final int credits) {
+        this.channel = channel;
+        this.database = database;
+        this.maxBatchBytes = maxBatchBytes;
+        this.compressionType = compressionType;
+        this.credits = new Semaphore(credits);
+    }
+    
     @Override
     public Object getConnector() {
-        // TODO to be implemented
-        return null;
+        return channel;
+    }
+    
+    /**
+     * Try to acquire one credit before writing one batch.
+     *
+     * @param timeout timeout
+     * @param timeUnit time unit
+     * @return acquired or not
+     */
+    @SneakyThrows(InterruptedException.class)
+    public boolean tryAcquireCredit(final long timeout, final TimeUnit timeUnit) {
+        return credits.tryAcquire(timeout, timeUnit);
+    }
+    
+    /**
+     * Write batch of records to client.
+     *
+     * @param records records
+     * @return ack id of batch
+     */
+    public synchronized long write(final List<Record> records) {
+        long result = lastAckId + 1;
+        CDCResponse response = CDCResponse.newBuilder().setStatus(Status.SUCCEED)
+                .setFetchRecordResult(FetchRecordResultCodec.encode(String.valueOf(result), records, compressionType, maxBatchBytes)).build();
+        channel.writeAndFlush(response);
+        lastAckId = result;
+        return result;
+    }
+    
+    /**
+     * Ack batches by watermark and grant credits.
+     *
+     * @param ackId ack id of the last batch received by client
+     * @param grantedCredits credits granted by client
+     */
+    public synchronized void ack(final String ackId, final int grantedCredits) {
+        ackedWatermark = Math.max(ackedWatermark, Long.parseLong(ackId));
+        if (grantedCredits > 0) {
+            credits.release(grantedCredits);
+        }
     }
     
     @Override
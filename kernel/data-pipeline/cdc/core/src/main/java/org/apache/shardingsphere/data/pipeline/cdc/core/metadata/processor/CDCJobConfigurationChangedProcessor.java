@@ -17,61 +17,25 @@
 
 package org.apache.shardingsphere.data.pipeline.cdc.core.metadata.processor;
 
-import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.api.job.type.CDCJobType;
-import org.apache.shardingsphere.data.pipeline.cdc.core.job.CDCJob;
-import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
-import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
 import org.apache.shardingsphere.data.pipeline.core.metadata.node.event.handler.PipelineChangedJobConfigurationProcessor;
 import org.apache.shardingsphere.elasticjob.infra.pojo.JobConfigurationPOJO;
-import org.apache.shardingsphere.elasticjob.lite.api.bootstrap.impl.OneOffJobBootstrap;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 
-import java.util.concurrent.CompletableFuture;
-
 /**
  * CDC job configuration changed processor.
  */
-@Slf4j
 public final class CDCJobConfigurationChangedProcessor implements PipelineChangedJobConfigurationProcessor {
     
     @Override
     public void process(final Type eventType, final JobConfigurationPOJO jobConfigPOJO) {
-        String jobId = jobConfigPOJO.getJobName();
-        if (jobConfigPOJO.isDisabled()) {
-            PipelineJobCenter.stop(jobId);
-            return;
-        }
-        switch (eventType) {
-            case ADDED:
-            case UPDATED:
-                if (PipelineJobCenter.isJobExisting(jobId)) {
-                    log.info("{} added to executing jobs failed since it already exists", jobId);
-                } else {
-                    CompletableFuture.runAsync(() -> execute(jobConfigPOJO), PipelineContext.getEventListenerExecutor()).whenComplete((unused, throwable) -> {
-                        if (null != throwable) {
-                            log.error("execute failed, jobId={}", jobId, throwable);
-                        }
-                    });
-                }
-                break;
-            case DELETED:
-                PipelineJobCenter.stop(jobId);
-                break;
-            default:
-                break;
+        // CDC job is started by start subscription request, on the instance which holds the client connection
+        if (jobConfigPOJO.isDisabled() || Type.DELETED == eventType) {
+            PipelineJobCenter.stop(jobConfigPOJO.getJobName());
         }
     }
     
-    private void execute(final JobConfigurationPOJO jobConfigPOJO) {
-        CDCJob job = new CDCJob();
-        PipelineJobCenter.addJob(jobConfigPOJO.getJobName(), job);
-        OneOffJobBootstrap oneOffJobBootstrap = new OneOffJobBootstrap(PipelineAPIFactory.getRegistryCenter(), job, jobConfigPOJO.toJobConfiguration());
-        job.setJobBootstrap(oneOffJobBootstrap);
-        oneOffJobBootstrap.execute();
-    }
-    
     @Override
     public String getType() {
         return new CDCJobType().getTypeName();
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.BoolValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+import com.google.protobuf.DoubleValue;
+import com.google.protobuf.FloatValue;
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.Int64Value;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.BigDecimalValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.BigIntegerValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ClobValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.NullValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.util.Date;
+
+/**
+ * Column value convert util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnValueConvertUtil {
+    
+    /**
+     * Convert column value to protobuf message.
+     *
+     * @param value column value
+     * @return protobuf message
+     */
+    @SneakyThrows(SQLException.class)
+    public static Message convertToProtobufMessage(final Object value) {
+        if (null == value) {
+            return NullValue.newBuilder().build();
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Int32Value.of(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return Int64Value.of((Long) value);
+        }
+        if (value instanceof BigInteger) {
+            return BigIntegerValue.newBuilder().setValue(ByteString.copyFrom(((BigInteger) value).toByteArray())).build();
+        }
+        if (value instanceof Float) {
+            return FloatValue.of((Float) value);
+        }
+        if (value instanceof Double) {
+            return DoubleValue.of((Double) value);
+        }
+        if (value instanceof BigDecimal) {
+            return BigDecimalValue.newBuilder().setValue(((BigDecimal) value).toPlainString()).build();
+        }
+        if (value instanceof Boolean) {
+            return BoolValue.of((Boolean) value);
+        }
+        if (value instanceof byte[]) {
+            return BytesValue.of(ByteString.copyFrom((byte[]) value));
+        }
+        if (value instanceof Time) {
+            return StringValue.of(value.toString());
+        }
+        if (value instanceof java.sql.Timestamp) {
+            java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+            return Timestamp.newBuilder().setSeconds(Math.floorDiv(timestamp.getTime(), 1000L)).setNanos(timestamp.getNanos()).build();
+        }
+        if (value instanceof Date) {
+            long millis = ((Date) value).getTime();
+            return Timestamp.newBuilder().setSeconds(Math.floorDiv(millis, 1000L)).setNanos((int) Math.floorMod(millis, 1000L) * 1000000).build();
+        }
+        if (value instanceof Clob) {
+            Clob clob = (Clob) value;
+            return ClobValue.newBuilder().setValue(clob.getSubString(1L, (int) clob.length())).build();
+        }
+        if (value instanceof Blob) {
+            Blob blob = (Blob) value;
+            return BytesValue.of(ByteString.copyFrom(blob.getBytes(1L, (int) blob.length())));
+        }
+        return StringValue.of(value.toString());
+    }
+}
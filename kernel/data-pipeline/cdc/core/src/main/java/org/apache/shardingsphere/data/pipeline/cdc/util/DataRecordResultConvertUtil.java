@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.Any;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record.TableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+
+/**
+ * Data record result convert util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataRecordResultConvertUtil {
+    
+    /**
+     * Convert data record to record of fetch record result.
+     *
+     * <p>Before values of update contain unique key columns only.</p>
+     *
+     * @param database database
+     * @param schema schema, nullable
+     * @param dataRecord data record
+     * @return record
+     */
+    public static Record convertDataRecordToRecord(final String database, final String schema, final DataRecord dataRecord) {
+        Record.Builder result = Record.newBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            if (IngestDataChangeType.DELETE.equals(dataRecord.getType())) {
+                result.putBefore(each.getName(), Any.pack(ColumnValueConvertUtil.convertToProtobufMessage(each.getValue())));
+                continue;
+            }
+            // old value is available only for updated unique key column
+            if (IngestDataChangeType.UPDATE.equals(dataRecord.getType()) && each.isUniqueKey()) {
+                result.putBefore(each.getName(), Any.pack(ColumnValueConvertUtil.convertToProtobufMessage(null == each.getOldValue() ? each.getValue() : each.getOldValue())));
+            }
+            result.putAfter(each.getName(), Any.pack(ColumnValueConvertUtil.convertToProtobufMessage(each.getValue())));
+        }
+        TableMetaData.Builder tableMetaData = TableMetaData.newBuilder().setDatabase(database).setTableName(dataRecord.getTableName());
+        if (null != schema) {
+            tableMetaData.setSchema(schema);
+        }
+        return result.setTableMetaData(tableMetaData.build()).setTransactionCommitMillis(dataRecord.getCommitTime()).setDataChangeType(getDataChangeType(dataRecord.getType())).build();
+    }
+    
+    private static DataChangeType getDataChangeType(final String type) {
+        switch (type) {
+            case IngestDataChangeType.INSERT:
+                return DataChangeType.INSERT;
+            case IngestDataChangeType.UPDATE:
+                return DataChangeType.UPDATE;
+            case IngestDataChangeType.DELETE:
+                return DataChangeType.DELETE;
+            default:
+                return DataChangeType.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.context;
+
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class CDCConnectionContextTest {
+    
+    @Test
+    public void assertNegotiate() {
+        CDCConnectionContext context = new CDCConnectionContext();
+        context.negotiate(StartSubscriptionRequest.newBuilder().setMaxBatchBytes(Integer.MAX_VALUE).setCompressionType(CompressionType.DEFLATE).setCredits(2).build());
+        assertThat(context.getMaxBatchBytes(), is(16 * 1024 * 1024));
+        assertThat(context.getCompressionType(), is(CompressionType.DEFLATE));
+        assertThat(context.getCredits(), is(2));
+    }
+    
+    @Test
+    public void assertNegotiateWithDefaultValue() {
+        CDCConnectionContext context = new CDCConnectionContext();
+        context.negotiate(StartSubscriptionRequest.newBuilder().build());
+        assertThat(context.getMaxBatchBytes(), is(1024 * 1024));
+        assertThat(context.getCompressionType(), is(CompressionType.NONE));
+        assertThat(context.getCredits(), is(16));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer;
+
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressUpdatedParameter;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CDCImporterTest {
+    
+    @Mock
+    private ImporterConfiguration importerConfig;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private PipelineChannel pipelineChannel;
+    
+    @Mock
+    private PipelineJobProgressListener jobProgressListener;
+    
+    @Test
+    public void assertPushAndAckByWatermark() throws ExecutionException, InterruptedException, TimeoutException {
+        List<Record> records = Arrays.asList(createDataRecord(1), createDataRecord(2), new FinishedRecord(new PlaceholderPosition()));
+        when(importerConfig.getBatchSize()).thenReturn(10);
+        when(pipelineChannel.fetchRecords(anyInt(), anyInt())).thenReturn(records, Collections.emptyList());
+        CDCImporterConnector importerConnector = new CDCImporterConnector(channel, "foo_db", 1, CompressionType.NONE, 1);
+        CDCImporter importer = new CDCImporter(importerConfig, importerConnector, pipelineChannel, jobProgressListener);
+        final CompletableFuture<Void> future = CompletableFuture.runAsync(importer::start);
+        ArgumentCaptor<CDCResponse> captor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(channel, timeout(5000L)).writeAndFlush(captor.capture());
+        assertThat(captor.getValue().getFetchRecordResult().getAckId(), is("1"));
+        assertThat(captor.getValue().getFetchRecordResult().getRecordsCount(), is(1));
+        importerConnector.ack("1", 1);
+        verify(channel, timeout(5000L).times(2)).writeAndFlush(captor.capture());
+        assertThat(captor.getValue().getFetchRecordResult().getAckId(), is("2"));
+        verify(pipelineChannel, never()).ack(any());
+        importerConnector.ack("2", 1);
+        future.get(5L, TimeUnit.SECONDS);
+        verify(pipelineChannel).ack(records);
+        ArgumentCaptor<PipelineJobProgressUpdatedParameter> parameterCaptor = ArgumentCaptor.forClass(PipelineJobProgressUpdatedParameter.class);
+        verify(jobProgressListener).onProgressUpdated(parameterCaptor.capture());
+        assertThat(parameterCaptor.getValue().getProcessedRecordsCount(), is(2));
+    }
+    
+    private DataRecord createDataRecord(final int orderId) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 1);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", orderId, true, true));
+        return result;
+    }
+}
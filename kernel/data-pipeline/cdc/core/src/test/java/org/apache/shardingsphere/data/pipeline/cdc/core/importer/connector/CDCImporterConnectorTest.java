@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.StringValue;
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.common.FetchRecordResultCodec;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class CDCImporterConnectorTest {
+    
+    private final Channel channel = mock(Channel.class);
+    
+    @Test
+    public void assertWrite() {
+        CDCImporterConnector importerConnector = new CDCImporterConnector(channel, "foo_db", 1024, CompressionType.DEFLATE, 1);
+        List<Record> records = Collections.singletonList(Record.newBuilder().putAfter("id", Any.pack(StringValue.of("1"))).build());
+        assertThat(importerConnector.write(records), is(1L));
+        assertThat(importerConnector.write(records), is(2L));
+        assertThat(importerConnector.getLastAckId(), is(2L));
+        ArgumentCaptor<CDCResponse> captor = ArgumentCaptor.forClass(CDCResponse.class);
+        verify(channel, times(2)).writeAndFlush(captor.capture());
+        CDCResponse actual = captor.getAllValues().get(1);
+        assertThat(actual.getFetchRecordResult().getAckId(), is("2"));
+        assertThat(actual.getFetchRecordResult().getCompressionType(), is(CompressionType.DEFLATE));
+        assertThat(FetchRecordResultCodec.decode(actual.getFetchRecordResult(), 1024), is(records));
+    }
+    
+    @Test
+    public void assertAcquireCreditAndAck() {
+        CDCImporterConnector importerConnector = new CDCImporterConnector(channel, "foo_db", 1024, CompressionType.NONE, 1);
+        assertTrue(importerConnector.tryAcquireCredit(0L, TimeUnit.MILLISECONDS));
+        assertFalse(importerConnector.tryAcquireCredit(0L, TimeUnit.MILLISECONDS));
+        importerConnector.ack("2", 1);
+        importerConnector.ack("1", 0);
+        assertThat(importerConnector.getAckedWatermark(), is(2L));
+        assertTrue(importerConnector.tryAcquireCredit(0L, TimeUnit.MILLISECONDS));
+    }
+}
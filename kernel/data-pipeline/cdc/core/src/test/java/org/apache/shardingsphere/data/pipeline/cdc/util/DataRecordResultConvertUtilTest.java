@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.util;
+
+import com.google.protobuf.Int32Value;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record.DataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class DataRecordResultConvertUtilTest {
+    
+    @Test
+    public void assertConvertInsertDataRecord() throws InvalidProtocolBufferException {
+        DataRecord dataRecord = createDataRecord(IngestDataChangeType.INSERT);
+        dataRecord.addColumn(new Column("order_id", 1, true, true));
+        dataRecord.addColumn(new Column("status", "ok", true, false));
+        Record actual = DataRecordResultConvertUtil.convertDataRecordToRecord("foo_db", "foo_schema", dataRecord);
+        assertThat(actual.getDataChangeType(), is(DataChangeType.INSERT));
+        assertThat(actual.getTableMetaData().getDatabase(), is("foo_db"));
+        assertThat(actual.getTableMetaData().getSchema(), is("foo_schema"));
+        assertThat(actual.getTableMetaData().getTableName(), is("t_order"));
+        assertThat(actual.getTransactionCommitMillis(), is(100L));
+        assertTrue(actual.getBeforeMap().isEmpty());
+        assertThat(actual.getAfterMap().get("order_id").unpack(Int32Value.class).getValue(), is(1));
+        assertThat(actual.getAfterMap().get("status").unpack(StringValue.class).getValue(), is("ok"));
+    }
+    
+    @Test
+    public void assertConvertUpdateDataRecord() throws InvalidProtocolBufferException {
+        DataRecord dataRecord = createDataRecord(IngestDataChangeType.UPDATE);
+        dataRecord.addColumn(new Column("order_id", 1, 2, true, true));
+        dataRecord.addColumn(new Column("status", "ok", true, false));
+        Record actual = DataRecordResultConvertUtil.convertDataRecordToRecord("foo_db", null, dataRecord);
+        assertThat(actual.getDataChangeType(), is(DataChangeType.UPDATE));
+        assertFalse(actual.getTableMetaData().hasSchema());
+        assertThat(actual.getBeforeMap().size(), is(1));
+        assertThat(actual.getBeforeMap().get("order_id").unpack(Int32Value.class).getValue(), is(1));
+        assertThat(actual.getAfterMap().get("order_id").unpack(Int32Value.class).getValue(), is(2));
+        assertThat(actual.getAfterMap().get("status").unpack(StringValue.class).getValue(), is("ok"));
+    }
+    
+    @Test
+    public void assertConvertDeleteDataRecord() throws InvalidProtocolBufferException {
+        DataRecord dataRecord = createDataRecord(IngestDataChangeType.DELETE);
+        dataRecord.addColumn(new Column("order_id", 1, true, true));
+        Record actual = DataRecordResultConvertUtil.convertDataRecordToRecord("foo_db", null, dataRecord);
+        assertThat(actual.getDataChangeType(), is(DataChangeType.DELETE));
+        assertThat(actual.getBeforeMap().get("order_id").unpack(Int32Value.class).getValue(), is(1));
+        assertTrue(actual.getAfterMap().isEmpty());
+    }
+    
+    private DataRecord createDataRecord(final String type) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setType(type);
+        result.setTableName("t_order");
+        result.setCommitTime(100L);
+        return result;
+    }
+}
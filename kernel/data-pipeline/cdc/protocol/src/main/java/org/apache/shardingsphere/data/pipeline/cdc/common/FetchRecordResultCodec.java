@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.common;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.RecordBatch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Fetch record result codec.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FetchRecordResultCodec {
+    
+    /**
+     * Split records into batches, serialized size of every batch is not greater than max batch bytes unless it contains only one record.
+     *
+     * @param records records
+     * @param maxBatchBytes max batch bytes
+     * @return batches of records
+     */
+    public static List<List<Record>> split(final List<Record> records, final int maxBatchBytes) {
+        List<List<Record>> result = new LinkedList<>();
+        List<Record> batch = new ArrayList<>();
+        int batchBytes = 0;
+        for (Record each : records) {
+            int recordBytes = computeSize(each);
+            if (!batch.isEmpty() && batchBytes + recordBytes > maxBatchBytes) {
+                result.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(each);
+            batchBytes += recordBytes;
+        }
+        if (!batch.isEmpty()) {
+            result.add(batch);
+        }
+        return result;
+    }
+    
+    private static int computeSize(final Record record) {
+        return CodedOutputStream.computeMessageSize(FetchRecordResult.RECORDS_FIELD_NUMBER, record);
+    }
+    
+    /**
+     * Encode records to fetch record result.
+     *
+     * <p>Records are compressed only if their serialized size is not greater than max batch bytes, so the peer could bound inflated size by max batch bytes.</p>
+     *
+     * @param ackId ack id
+     * @param records records
+     * @param compressionType compression type
+     * @param maxBatchBytes max batch bytes
+     * @return fetch record result
+     */
+    public static FetchRecordResult encode(final String ackId, final List<Record> records, final CompressionType compressionType, final int maxBatchBytes) {
+        FetchRecordResult.Builder result = FetchRecordResult.newBuilder().setAckId(ackId);
+        if (CompressionType.DEFLATE != compressionType) {
+            return result.addAllRecords(records).build();
+        }
+        RecordBatch recordBatch = RecordBatch.newBuilder().addAllRecords(records).build();
+        if (recordBatch.getSerializedSize() > maxBatchBytes) {
+            return result.addAllRecords(records).build();
+        }
+        return result.setCompressionType(compressionType).setCompressedRecords(deflate(recordBatch)).build();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static ByteString deflate(final RecordBatch recordBatch) {
+        ByteString.Output result = ByteString.newOutput();
+        try (DeflaterOutputStream outputStream = new DeflaterOutputStream(result)) {
+            recordBatch.writeTo(outputStream);
+        }
+        return result.toByteString();
+    }
+    
+    /**
+     * Decode records from fetch record result.
+     *
+     * @param fetchRecordResult fetch record result
+     * @param maxBatchBytes max batch bytes, inflating compressed records beyond it fails
+     * @return records
+     */
+    public static List<Record> decode(final FetchRecordResult fetchRecordResult, final int maxBatchBytes) {
+        if (CompressionType.DEFLATE == fetchRecordResult.getCompressionType()) {
+            return inflate(fetchRecordResult.getCompressedRecords(), maxBatchBytes).getRecordsList();
+        }
+        return fetchRecordResult.getRecordsList();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static RecordBatch inflate(final ByteString compressedRecords, final int maxBatchBytes) {
+        try (InputStream inputStream = new InflaterInputStream(compressedRecords.newInput())) {
+            CodedInputStream codedInputStream = CodedInputStream.newInstance(inputStream);
+            codedInputStream.setSizeLimit(maxBatchBytes);
+            return RecordBatch.parseFrom(codedInputStream);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.cdc.common;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.FetchRecordResult.Record;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FetchRecordResultCodecTest {
+    
+    private static final int MAX_BATCH_BYTES = 1024;
+    
+    @Test
+    public void assertSplit() {
+        List<Record> records = Arrays.asList(createRecord(1), createRecord(2), createRecord(3));
+        int recordBytes = CodedOutputStream.computeMessageSize(FetchRecordResult.RECORDS_FIELD_NUMBER, records.get(0));
+        List<List<Record>> actual = FetchRecordResultCodec.split(records, recordBytes * 2);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(2));
+        assertThat(actual.get(1).size(), is(1));
+    }
+    
+    @Test
+    public void assertSplitWithRecordLargerThanMaxBatchBytes() {
+        List<List<Record>> actual = FetchRecordResultCodec.split(Arrays.asList(createRecord(1), createRecord(2)), 1);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).size(), is(1));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithoutCompression() {
+        List<Record> records = Arrays.asList(createRecord(1), createRecord(2));
+        FetchRecordResult actual = FetchRecordResultCodec.encode("1", records, CompressionType.NONE, MAX_BATCH_BYTES);
+        assertThat(actual.getRecordsCount(), is(2));
+        assertTrue(actual.getCompressedRecords().isEmpty());
+        assertThat(FetchRecordResultCodec.decode(actual, MAX_BATCH_BYTES), is(records));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithDeflateCompression() {
+        List<Record> records = Arrays.asList(createRecord(1), createRecord(2));
+        FetchRecordResult actual = FetchRecordResultCodec.encode("1", records, CompressionType.DEFLATE, MAX_BATCH_BYTES);
+        assertThat(actual.getAckId(), is("1"));
+        assertThat(actual.getRecordsCount(), is(0));
+        assertThat(actual.getCompressionType(), is(CompressionType.DEFLATE));
+        assertThat(FetchRecordResultCodec.decode(actual, MAX_BATCH_BYTES), is(records));
+    }
+    
+    @Test
+    public void assertEncodeWithRecordLargerThanMaxBatchBytes() {
+        List<Record> records = Arrays.asList(createRecord(1));
+        FetchRecordResult actual = FetchRecordResultCodec.encode("1", records, CompressionType.DEFLATE, 1);
+        assertThat(actual.getCompressionType(), is(CompressionType.NONE));
+        assertThat(FetchRecordResultCodec.decode(actual, 1), is(records));
+    }
+    
+    @Test(expected = InvalidProtocolBufferException.class)
+    public void assertDecodeWithInflatedSizeLargerThanMaxBatchBytes() {
+        FetchRecordResult fetchRecordResult = FetchRecordResultCodec.encode("1", Arrays.asList(createRecord(1), createRecord(2)), CompressionType.DEFLATE, MAX_BATCH_BYTES);
+        FetchRecordResultCodec.decode(fetchRecordResult, 10);
+    }
+    
+    private Record createRecord(final int id) {
+        return Record.newBuilder().putAfter("id", Any.pack(StringValue.of(String.valueOf(id)))).putAfter("status", Any.pack(StringValue.of("ok")))
+                .setTableMetaData(Record.TableMetaData.newBuilder().setDatabase("foo_db").setTableName("t_order").build()).build();
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.shardingsphere.data.pipeline.api.config.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskCheckStatistics;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.ColumnValueReaderFactory;
+import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Incremental data consistency checker.
+ * 
+ * <p>Records acknowledged by importers are sampled, and sampled records are re-read from source and target after a delay.
+ * Mismatched record is re-checked once more before it's counted as mismatched, since it might be changed again in the meantime.</p>
+ *
+ * <p>Unique keys which mismatched at first check are hot, every later change of hot key is checked regardless of sample rate,
+ * until it's matched again.</p>
+ *
+ * <p>Statistics are counted within a window which is restarted every minute, they are exposed by incremental task progress.</p>
+ */
+@Slf4j
+public final class IncrementalDataConsistencyChecker implements AutoCloseable {
+    
+    private static final int MAX_PENDING_COUNT = 10000;
+    
+    private static final int MAX_HOT_KEY_COUNT = 1000;
+    
+    private static final long STATISTICS_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1L);
+    
+    private final String jobId;
+    
+    private final PipelineDataSourceWrapper sourceDataSource;
+    
+    private final PipelineDataSourceWrapper targetDataSource;
+    
+    private final DumperConfiguration dumperConfig;
+    
+    private final ImporterConfiguration importerConfig;
+    
+    private final double sampleRate;
+    
+    private final long delayMillis;
+    
+    /**
+     * Logic table name to actual table name, used for records without actual table name. Logic tables with more than one actual table are excluded.
+     */
+    private final Map<String, String> actualTableNames = new HashMap<>();
+    
+    private final Set<String> skippedLogicTableNames = ConcurrentHashMap.newKeySet();
+    
+    private final Set<DataRecord.Key> hotKeys = ConcurrentHashMap.newKeySet();
+    
+    private final ScheduledExecutorService executor;
+    
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    
+    @Getter
+    private final IncrementalTaskCheckStatistics statistics = new IncrementalTaskCheckStatistics();
+    
+    public IncrementalDataConsistencyChecker(final String jobId, final PipelineDataSourceWrapper sourceDataSource, final PipelineDataSourceWrapper targetDataSource,
+                                             final DumperConfiguration dumperConfig, final ImporterConfiguration importerConfig, final PipelineIncrementalCheckConfiguration checkConfig) {
+        this.jobId = jobId;
+        this.sourceDataSource = sourceDataSource;
+        this.targetDataSource = targetDataSource;
+        this.dumperConfig = dumperConfig;
+        this.importerConfig = importerConfig;
+        sampleRate = checkConfig.getSampleRate();
+        delayMillis = checkConfig.getDelayMillis();
+        Collection<String> shardedLogicTableNames = new HashSet<>();
+        for (Entry<ActualTableName, LogicTableName> entry : dumperConfig.getTableNameMap().entrySet()) {
+            if (null != actualTableNames.put(entry.getValue().getLowercase(), entry.getKey().getOriginal())) {
+                shardedLogicTableNames.add(entry.getValue().getLowercase());
+            }
+        }
+        actualTableNames.keySet().removeAll(shardedLogicTableNames);
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("job-" + jobId + "-incremental-check-%d"));
+        statistics.setWindowStartMillis(System.currentTimeMillis());
+        executor.scheduleAtFixedRate(this::restartStatisticsWindow, STATISTICS_WINDOW_MILLIS, STATISTICS_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Sample acknowledged records to be checked later.
+     *
+     * @param records acknowledged records
+     */
+    public void onAck(final List<Record> records) {
+        for (Record each : records) {
+            if (each instanceof DataRecord && pendingCount.get() < MAX_PENDING_COUNT && isSampled((DataRecord) each)) {
+                schedule((DataRecord) each, false);
+            }
+        }
+    }
+    
+    private boolean isSampled(final DataRecord dataRecord) {
+        return hotKeys.contains(dataRecord.getKey()) || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+    
+    private void schedule(final DataRecord dataRecord, final boolean recheck) {
+        pendingCount.incrementAndGet();
+        try {
+            executor.schedule(() -> check(dataRecord, recheck), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException ignored) {
+            pendingCount.decrementAndGet();
+        }
+    }
+    
+    private void check(final DataRecord dataRecord, final boolean recheck) {
+        pendingCount.decrementAndGet();
+        List<Column> uniqueKeyColumns = RecordUtil.extractPrimaryColumns(dataRecord);
+        if (uniqueKeyColumns.isEmpty()) {
+            return;
+        }
+        Optional<String> actualTableName = findActualTableName(dataRecord);
+        if (!actualTableName.isPresent()) {
+            return;
+        }
+        boolean matched;
+        try {
+            matched = isMatched(dataRecord.getTableName(), actualTableName.get(), uniqueKeyColumns);
+        } catch (final SQLException ex) {
+            log.warn("Incremental check failed, jobId={}, tableName={}", jobId, dataRecord.getTableName(), ex);
+            return;
+        }
+        if (matched) {
+            hotKeys.remove(dataRecord.getKey());
+        } else if (hotKeys.size() < MAX_HOT_KEY_COUNT) {
+            hotKeys.add(dataRecord.getKey());
+        }
+        statistics.setHotKeyCount(hotKeys.size());
+        if (!matched && !recheck) {
+            schedule(dataRecord, true);
+            return;
+        }
+        statistics.setCheckedCount(statistics.getCheckedCount() + 1L);
+        if (!matched) {
+            statistics.setMismatchedCount(statistics.getMismatchedCount() + 1L);
+            log.warn("Incremental check mismatched, jobId={}, tableName={}, uniqueKeyValues={}", jobId, dataRecord.getTableName(), dataRecord.getUniqueKeyValue());
+        }
+    }
+    
+    private Optional<String> findActualTableName(final DataRecord dataRecord) {
+        if (null != dataRecord.getActualTableName()) {
+            return Optional.of(dataRecord.getActualTableName());
+        }
+        String result = actualTableNames.get(dataRecord.getTableName());
+        if (null == result && skippedLogicTableNames.add(dataRecord.getTableName())) {
+            log.warn("Incremental check skipped table since actual table name is unknown, jobId={}, tableName={}", jobId, dataRecord.getTableName());
+        }
+        return Optional.ofNullable(result);
+    }
+    
+    private void restartStatisticsWindow() {
+        log.info("Incremental check statistics, jobId={}, statistics={}", jobId, statistics);
+        statistics.setWindowStartMillis(System.currentTimeMillis());
+        statistics.setCheckedCount(0L);
+        statistics.setMismatchedCount(0L);
+    }
+    
+    private boolean isMatched(final String logicTableName, final String actualTableName, final List<Column> uniqueKeyColumns) throws SQLException {
+        String sourceDatabaseType = sourceDataSource.getDatabaseType().getType();
+        String sourceSQL = PipelineSQLBuilderFactory.getInstance(sourceDatabaseType).buildQueryByUniqueKeySQL(
+                dumperConfig.getSchemaName(new LogicTableName(logicTableName)), actualTableName, uniqueKeyColumns);
+        List<Object> sourceRecord = queryRecord(sourceDataSource, sourceSQL, uniqueKeyColumns, ColumnValueReaderFactory.getInstance(sourceDatabaseType));
+        String targetDatabaseType = targetDataSource.getDatabaseType().getType();
+        String targetSQL = PipelineSQLBuilderFactory.getInstance(targetDatabaseType).buildQueryByUniqueKeySQL(
+                importerConfig.getSchemaName(new LogicTableName(logicTableName)), logicTableName, uniqueKeyColumns);
+        List<Object> targetRecord = queryRecord(targetDataSource, targetSQL, uniqueKeyColumns, ColumnValueReaderFactory.getInstance(targetDatabaseType));
+        return isRecordMatched(sourceRecord, targetRecord);
+    }
+    
+    private List<Object> queryRecord(final PipelineDataSourceWrapper dataSource, final String sql, final List<Column> uniqueKeyColumns, final ColumnValueReader columnValueReader) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < uniqueKeyColumns.size(); i++) {
+                preparedStatement.setObject(i + 1, uniqueKeyColumns.get(i).getValue());
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                List<Object> result = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    result.add(columnValueReader.readValue(resultSet, resultSetMetaData, i));
+                }
+                return result;
+            }
+        }
+    }
+    
+    private boolean isRecordMatched(final List<Object> sourceRecord, final List<Object> targetRecord) {
+        if (null == sourceRecord || null == targetRecord) {
+            return sourceRecord == targetRecord;
+        }
+        if (sourceRecord.size() != targetRecord.size()) {
+            return false;
+        }
+        Iterator<Object> targetIterator = targetRecord.iterator();
+        for (Object each : sourceRecord) {
+            Object targetValue = targetIterator.next();
+            boolean matched = each instanceof BigDecimal && targetValue instanceof BigDecimal
+                    ? DataConsistencyCheckUtils.isBigDecimalEquals((BigDecimal) each, (BigDecimal) targetValue)
+                    : new EqualsBuilder().append(each, targetValue).isEquals();
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -31,12 +31,15 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.CRC32MatchDataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineSQLException;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
 import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.wrapper.SQLWrapperException;
 
 import java.sql.SQLException;
@@ -100,6 +103,10 @@ public final class SingleTableInventoryDataConsistencyChecker {
         String sourceTableName = sourceTable.getTableName().getOriginal();
         PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(schemaName, sourceTableName);
         ShardingSpherePreconditions.checkNotNull(tableMetaData, () -> new PipelineTableDataConsistencyCheckLoadingFailedException(schemaName, sourceTableName));
+        // records are paged by the first unique key column, it's not unique for composite unique key
+        ShardingSpherePreconditions.checkState(calculateAlgorithm instanceof CRC32MatchDataConsistencyCalculateAlgorithm
+                || 1 == PipelineTableMetaDataUtil.getUniqueKeyColumns(schemaName, sourceTableName, metaDataLoader).size(),
+                () -> new UnsupportedSQLOperationException(String.format("Data consistency check by `%s` for table `%s` with composite unique key", calculateAlgorithm.getType(), sourceTableName)));
         Collection<String> columnNames = tableMetaData.getColumnNames();
         Map<String, Object> tableCheckPositions = progressContext.getTableCheckPositions();
         DataConsistencyCalculateParameter sourceParam = buildParameter(
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.DataConsistencyCheckUtils;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineDatabaseTypeException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.algorithm.AlgorithmDescription;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.OpenGaussDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Chunked checksum match data consistency calculate algorithm.
+ * 
+ * <p>Checksum of every chunk is calculated in database, records are not transferred.
+ * If chunks do not match, unique key range of the chunk is reported, it could be re-checked by {@code DATA_MATCH}.</p>
+ */
+@AlgorithmDescription("Match checksum of chunked records.")
+@Slf4j
+public final class ChunkedChecksumMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Arrays.asList(
+            new MySQLDatabaseType().getType(), new PostgreSQLDatabaseType().getType(), new OpenGaussDatabaseType().getType());
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    @Getter
+    private Properties props;
+    
+    private int chunkSize;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        CalculatedResult previousCalculatedResult = (CalculatedResult) param.getPreviousCalculatedResult();
+        Object lowerUniqueKeyValue = null == previousCalculatedResult ? param.getTableCheckPosition() : previousCalculatedResult.getMaxUniqueKeyValue().orElse(null);
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(param.getDatabaseType());
+        Optional<String> sql = sqlBuilder.buildChunkedChecksumSQL(
+                param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName(), param.getColumnNames(), null == lowerUniqueKeyValue);
+        ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedPipelineDatabaseTypeException(DatabaseTypeFactory.getInstance(param.getDatabaseType())));
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql.get()))) {
+            if (null == lowerUniqueKeyValue) {
+                preparedStatement.setInt(1, chunkSize);
+            } else {
+                preparedStatement.setObject(1, lowerUniqueKeyValue);
+                preparedStatement.setInt(2, chunkSize);
+            }
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next() || 0 == resultSet.getInt(2)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new CalculatedResult(lowerUniqueKeyValue, resultSet.getObject(1), resultSet.getInt(2), resultSet.getString(3)));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNKED_CHECKSUM_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        private final Object lowerUniqueKeyValue;
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordsCount;
+        
+        private final String checksum;
+        
+        @Override
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.ofNullable(maxUniqueKeyValue);
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (getClass() != o.getClass()) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (recordsCount != that.recordsCount || !isUniqueKeyValueEquals(maxUniqueKeyValue, that.maxUniqueKeyValue) || !Objects.equals(checksum, that.checksum)) {
+                log.warn("chunk not match, unique key range=({}, {}], recordsCount1={}, recordsCount2={}, maxUniqueKeyValue2={}, checksum1={}, checksum2={}",
+                        lowerUniqueKeyValue, maxUniqueKeyValue, recordsCount, that.recordsCount, that.maxUniqueKeyValue, checksum, that.checksum);
+                return false;
+            }
+            return true;
+        }
+        
+        private boolean isUniqueKeyValueEquals(final Object one, final Object another) {
+            if (one instanceof Number && another instanceof Number) {
+                return DataConsistencyCheckUtils.isBigDecimalEquals(new BigDecimal(one.toString()), new BigDecimal(another.toString()));
+            }
+            return Objects.equals(one, another);
+        }
+        
+        @Override
+        public int hashCode() {
+            // max unique key value is left out, since numeric values of different types are equal
+            int result = recordsCount;
+            result = 31 * result + Objects.hashCode(checksum);
+            return result;
+        }
+    }
+}
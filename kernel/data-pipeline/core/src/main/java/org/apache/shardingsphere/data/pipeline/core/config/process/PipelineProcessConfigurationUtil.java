@@ -67,5 +67,19 @@ public final class PipelineProcessConfigurationUtil {
             props.put(MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_KEY, MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_DEFAULT_VALUE);
             yamlConfig.setStreamChannel(new YamlAlgorithmConfiguration(MemoryPipelineChannelCreator.TYPE, props));
         }
+        if (null != yamlConfig.getIncrementalCheck()) {
+            yamlConfig.getIncrementalCheck().fillInNullFieldsWithDefaultValue();
+        }
+    }
+    
+    /**
+     * Get block queue size of stream channel.
+     *
+     * @param processConfig process configuration
+     * @return block queue size
+     */
+    public static int getStreamChannelBlockQueueSize(final PipelineProcessConfiguration processConfig) {
+        Object result = null == processConfig.getStreamChannel() ? null : processConfig.getStreamChannel().getProps().get(MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_KEY);
+        return null == result ? MemoryPipelineChannelCreator.BLOCK_QUEUE_SIZE_DEFAULT_VALUE : Integer.parseInt(result.toString());
     }
 }
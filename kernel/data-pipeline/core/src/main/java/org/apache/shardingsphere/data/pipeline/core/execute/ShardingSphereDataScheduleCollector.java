@@ -38,13 +38,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * ShardingSphere data schedule collector.
@@ -146,19 +143,16 @@ public final class ShardingSphereDataScheduleCollector {
         private ShardingSphereSchemaDataAlteredEvent getShardingSphereSchemaDataAlteredEvent(final String databaseName, final String schemaName, final ShardingSphereTableData tableData,
                                                                                              final ShardingSphereTableData changedTableData, final ShardingSphereTable table) {
             ShardingSphereSchemaDataAlteredEvent result = new ShardingSphereSchemaDataAlteredEvent(databaseName, schemaName, tableData.getName());
-            Map<String, ShardingSphereRowData> tableDataMap = tableData.getRows().stream().collect(Collectors.toMap(ShardingSphereRowData::getUniqueKey, Function.identity()));
-            Map<String, ShardingSphereRowData> changedTableDataMap = changedTableData.getRows().stream().collect(Collectors.toMap(ShardingSphereRowData::getUniqueKey, Function.identity()));
             YamlShardingSphereRowDataSwapper swapper = new YamlShardingSphereRowDataSwapper(new ArrayList<>(table.getColumns().values()));
-            for (Entry<String, ShardingSphereRowData> entry : changedTableDataMap.entrySet()) {
-                if (!tableDataMap.containsKey(entry.getKey())) {
-                    result.getAddedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
-                } else if (!tableDataMap.get(entry.getKey()).equals(entry.getValue())) {
-                    result.getUpdatedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
+            // Unique key of row data is the digest of all column values, rows with same unique key are unchanged, so only added and deleted rows need to be persisted.
+            for (ShardingSphereRowData each : changedTableData.getRows()) {
+                if (!tableData.getRows().contains(each)) {
+                    result.getAddedRows().add(swapper.swapToYamlConfiguration(each));
                 }
             }
-            for (Entry<String, ShardingSphereRowData> entry : tableDataMap.entrySet()) {
-                if (!changedTableDataMap.containsKey(entry.getKey())) {
-                    result.getDeletedRows().add(swapper.swapToYamlConfiguration(entry.getValue()));
+            for (ShardingSphereRowData each : tableData.getRows()) {
+                if (!changedTableData.getRows().contains(each)) {
+                    result.getDeletedRows().add(swapper.swapToYamlConfiguration(each));
                 }
             }
             return result;
@@ -147,29 +147,42 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
+            String changeType = buffer.get(0).getType();
+            JobOperationType operationType = getJobOperationType(changeType);
+            if (null != rateLimitAlgorithm && null != operationType) {
+                rateLimitAlgorithm.intercept(operationType, 1);
+            }
+            long startTimeMillis = System.currentTimeMillis();
+            switch (changeType) {
                 case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
                     executeBatchInsert(connection, buffer);
                     break;
                 case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
                     executeUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
                     executeBatchDelete(connection, buffer);
                     break;
                 default:
                     break;
             }
             connection.commit();
+            if (null != rateLimitAlgorithm && null != operationType) {
+                rateLimitAlgorithm.onExecuted(operationType, System.currentTimeMillis() - startTimeMillis);
+            }
+        }
+    }
+    
+    private JobOperationType getJobOperationType(final String changeType) {
+        switch (changeType) {
+            case IngestDataChangeType.INSERT:
+                return JobOperationType.INSERT;
+            case IngestDataChangeType.UPDATE:
+                return JobOperationType.UPDATE;
+            case IngestDataChangeType.DELETE:
+                return JobOperationType.DELETE;
+            default:
+                return null;
         }
     }
     
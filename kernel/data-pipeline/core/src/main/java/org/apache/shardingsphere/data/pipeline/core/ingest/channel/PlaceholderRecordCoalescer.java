@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+/**
+ * Placeholder record coalescer, placeholder records of filtered events are coalesced to the latest one before pushing to channel.
+ */
+@RequiredArgsConstructor
+public final class PlaceholderRecordCoalescer {
+    
+    public static final int DEFAULT_MAX_COALESCED_COUNT = 1000;
+    
+    public static final long DEFAULT_MAX_COALESCED_MILLIS = 1000L;
+    
+    private final PipelineChannel channel;
+    
+    private final int maxCoalescedCount;
+    
+    private final long maxCoalescedMillis;
+    
+    private PlaceholderRecord pendingRecord;
+    
+    private int coalescedCount;
+    
+    private long lastPushedMillis;
+    
+    public PlaceholderRecordCoalescer(final PipelineChannel channel) {
+        this(channel, DEFAULT_MAX_COALESCED_COUNT, DEFAULT_MAX_COALESCED_MILLIS);
+    }
+    
+    /**
+     * Push record, placeholder record is held until max coalesced count or interval is reached.
+     *
+     * @param record record
+     */
+    public void pushRecord(final Record record) {
+        if (record instanceof PlaceholderRecord) {
+            pendingRecord = (PlaceholderRecord) record;
+            if (++coalescedCount >= maxCoalescedCount) {
+                flush();
+            } else {
+                flushIfExpired();
+            }
+            return;
+        }
+        pendingRecord = null;
+        coalescedCount = 0;
+        doPushRecord(record);
+    }
+    
+    /**
+     * Flush pending placeholder record if max coalesced interval is reached, it should be invoked when source is idle.
+     */
+    public void flushIfExpired() {
+        if (null != pendingRecord && System.currentTimeMillis() - lastPushedMillis >= maxCoalescedMillis) {
+            flush();
+        }
+    }
+    
+    /**
+     * Flush pending placeholder record.
+     */
+    public void flush() {
+        if (null == pendingRecord) {
+            return;
+        }
+        PlaceholderRecord record = pendingRecord;
+        pendingRecord = null;
+        coalescedCount = 0;
+        doPushRecord(record);
+    }
+    
+    private void doPushRecord(final Record record) {
+        channel.pushRecord(record);
+        lastPushedMillis = System.currentTimeMillis();
+    }
+}
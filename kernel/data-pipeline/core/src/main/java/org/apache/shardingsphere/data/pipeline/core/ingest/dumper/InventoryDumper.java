@@ -30,12 +30,14 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPositio
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.TuplePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineJobUniqueKeyDataTypeException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
@@ -54,7 +56,10 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Inventory dumper.
@@ -90,25 +95,18 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
     
     @Override
     protected void runBlocking() {
-        String firstSQL = buildInventoryDumpSQL(true);
-        String laterSQL = buildInventoryDumpSQL(false);
         IngestPosition<?> position = dumperConfig.getPosition();
         if (position instanceof FinishedPosition) {
             log.info("Ignored because of already finished.");
             return;
         }
         PipelineTableMetaData tableMetaData = metaDataLoader.getTableMetaData(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName());
-        Object beginUniqueKeyValue = ((PrimaryKeyPosition<?>) position).getBeginValue();
-        int round = 1;
         try (Connection connection = dataSource.getConnection()) {
-            Optional<Object> maxUniqueKeyValue;
-            while ((maxUniqueKeyValue = dump(tableMetaData, connection, 1 == round ? firstSQL : laterSQL, beginUniqueKeyValue, round++)).isPresent()) {
-                beginUniqueKeyValue = maxUniqueKeyValue.get();
-                if (!isRunning()) {
-                    break;
-                }
+            if (position instanceof TuplePrimaryKeyPosition) {
+                dumpByTupleKeyRange(tableMetaData, connection, (TuplePrimaryKeyPosition) position);
+            } else {
+                dumpByUniqueKeyRange(tableMetaData, connection, ((PrimaryKeyPosition<?>) position).getBeginValue());
             }
-            log.info("Inventory dump done, round={}, maxUniqueKeyValue={}.", round, maxUniqueKeyValue);
         } catch (final SQLException ex) {
             log.error("Inventory dump, ex caught, msg={}.", ex.getMessage());
             throw new IngestException(ex);
@@ -117,6 +115,39 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         }
     }
     
+    private void dumpByUniqueKeyRange(final PipelineTableMetaData tableMetaData, final Connection connection, final Object beginValue) throws SQLException {
+        String firstSQL = buildInventoryDumpSQL(true);
+        String laterSQL = buildInventoryDumpSQL(false);
+        Object beginUniqueKeyValue = beginValue;
+        int round = 1;
+        Optional<Object> maxUniqueKeyValue;
+        while ((maxUniqueKeyValue = dump(tableMetaData, connection, 1 == round ? firstSQL : laterSQL, beginUniqueKeyValue, round++)).isPresent()) {
+            beginUniqueKeyValue = maxUniqueKeyValue.get();
+            if (!isRunning()) {
+                break;
+            }
+        }
+        log.info("Inventory dump done, round={}, maxUniqueKeyValue={}.", round, maxUniqueKeyValue);
+    }
+    
+    private void dumpByTupleKeyRange(final PipelineTableMetaData tableMetaData, final Connection connection, final TuplePrimaryKeyPosition position) throws SQLException {
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        List<String> uniqueKeys = dumperConfig.getUniqueKeyColumns().stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList());
+        boolean hasEndValue = null != position.getEndValue();
+        String firstSQL = sqlBuilder.buildTupleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), uniqueKeys, null != position.getBeginValue(), hasEndValue);
+        String laterSQL = sqlBuilder.buildTupleInventoryDumpSQL(schemaName, dumperConfig.getActualTableName(), uniqueKeys, true, hasEndValue);
+        Object beginUniqueKeyValue = position.getBeginValue();
+        int round = 1;
+        Optional<Object> maxUniqueKeyValue;
+        while ((maxUniqueKeyValue = dump(tableMetaData, connection, 1 == round ? firstSQL : laterSQL, beginUniqueKeyValue, round++)).isPresent()) {
+            beginUniqueKeyValue = maxUniqueKeyValue.get();
+            if (!isRunning()) {
+                break;
+            }
+        }
+        log.info("Inventory dump done by tuple key range, round={}, maxUniqueKeyValue={}.", round, maxUniqueKeyValue);
+    }
+    
     private String buildInventoryDumpSQL(final boolean firstQuery) {
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
@@ -136,13 +167,26 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
             dumpStatement = preparedStatement;
             setParameters(preparedStatement, batchSize, beginUniqueKeyValue);
+            long startTimeMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (null != dumperConfig.getRateLimitAlgorithm()) {
+                    dumperConfig.getRateLimitAlgorithm().onExecuted(JobOperationType.SELECT, System.currentTimeMillis() - startTimeMillis);
+                }
                 ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                String[] columnNames = new String[columnCount];
+                boolean[] uniqueKeyFlags = new boolean[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    columnNames[i] = resultSetMetaData.getColumnName(i + 1);
+                    uniqueKeyFlags[i] = tableMetaData.getColumnMetaData(i + 1).isUniqueKey();
+                }
+                boolean isTupleKey = dumperConfig.getPosition() instanceof TuplePrimaryKeyPosition;
+                int uniqueKeyColumnIndex = isTupleKey ? -1 : tableMetaData.getColumnMetaData(dumperConfig.getUniqueKey()).getOrdinalPosition();
                 int rowCount = 0;
                 Object maxUniqueKeyValue = null;
                 while (resultSet.next()) {
-                    channel.pushRecord(loadDataRecord(resultSet, resultSetMetaData, tableMetaData));
-                    maxUniqueKeyValue = columnValueReader.readValue(resultSet, resultSetMetaData, tableMetaData.getColumnMetaData(dumperConfig.getUniqueKey()).getOrdinalPosition());
+                    channel.pushRecord(loadDataRecord(resultSet, resultSetMetaData, columnNames, uniqueKeyFlags));
+                    maxUniqueKeyValue = isTupleKey ? getTupleKeyValue(resultSet) : columnValueReader.readValue(resultSet, resultSetMetaData, uniqueKeyColumnIndex);
                     rowCount++;
                     if (!isRunning()) {
                         log.info("Broke because of inventory dump is not running.");
@@ -158,8 +202,15 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         }
     }
     
+    @SuppressWarnings("unchecked")
     private void setParameters(final PreparedStatement preparedStatement, final int batchSize, final Object beginUniqueKeyValue) throws SQLException {
         preparedStatement.setFetchSize(batchSize);
+        if (dumperConfig.getPosition() instanceof TuplePrimaryKeyPosition) {
+            int parameterIndex = setTupleKeyParameters(preparedStatement, 1, (List<String>) beginUniqueKeyValue);
+            parameterIndex = setTupleKeyParameters(preparedStatement, parameterIndex, ((TuplePrimaryKeyPosition) dumperConfig.getPosition()).getEndValue());
+            preparedStatement.setInt(parameterIndex, batchSize);
+            return;
+        }
         if (PipelineJdbcUtils.isIntegerColumn(dumperConfig.getUniqueKeyDataType())) {
             preparedStatement.setObject(1, beginUniqueKeyValue);
             preparedStatement.setObject(2, ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
@@ -174,18 +225,41 @@ public final class InventoryDumper extends AbstractLifecycleExecutor implements
         throw new UnsupportedPipelineJobUniqueKeyDataTypeException(dumperConfig.getUniqueKeyDataType());
     }
     
-    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final PipelineTableMetaData tableMetaData) throws SQLException {
-        int columnCount = resultSetMetaData.getColumnCount();
-        DataRecord result = new DataRecord(newPosition(resultSet), columnCount);
+    private int setTupleKeyParameters(final PreparedStatement preparedStatement, final int startIndex, final List<String> tupleKeyValue) throws SQLException {
+        if (null == tupleKeyValue) {
+            return startIndex;
+        }
+        int result = startIndex;
+        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
+        for (int i = 0; i < uniqueKeyColumns.size(); i++) {
+            preparedStatement.setObject(result++, PipelineJdbcUtils.convertTupleKeyValue(tupleKeyValue.get(i), uniqueKeyColumns.get(i).getDataType()));
+        }
+        return result;
+    }
+    
+    private List<String> getTupleKeyValue(final ResultSet resultSet) throws SQLException {
+        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
+        List<String> result = new ArrayList<>(uniqueKeyColumns.size());
+        for (PipelineColumnMetaData each : uniqueKeyColumns) {
+            result.add(PipelineJdbcUtils.getTupleKeyValue(resultSet, each.getName(), each.getDataType()));
+        }
+        return result;
+    }
+    
+    private DataRecord loadDataRecord(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final String[] columnNames, final boolean[] uniqueKeyFlags) throws SQLException {
+        DataRecord result = new DataRecord(newPosition(resultSet), columnNames.length);
         result.setType(IngestDataChangeType.INSERT);
         result.setTableName(dumperConfig.getLogicTableName());
-        for (int i = 1; i <= columnCount; i++) {
-            result.addColumn(new Column(resultSetMetaData.getColumnName(i), columnValueReader.readValue(resultSet, resultSetMetaData, i), true, tableMetaData.getColumnMetaData(i).isUniqueKey()));
+        for (int i = 0; i < columnNames.length; i++) {
+            result.addColumn(new Column(columnNames[i], columnValueReader.readValue(resultSet, resultSetMetaData, i + 1), true, uniqueKeyFlags[i]));
         }
         return result;
     }
     
     private IngestPosition<?> newPosition(final ResultSet resultSet) throws SQLException {
+        if (dumperConfig.getPosition() instanceof TuplePrimaryKeyPosition) {
+            return new TuplePrimaryKeyPosition(getTupleKeyValue(resultSet), ((TuplePrimaryKeyPosition) dumperConfig.getPosition()).getEndValue());
+        }
         return null == dumperConfig.getUniqueKey()
                 ? new PlaceholderPosition()
                 : PrimaryKeyPositionFactory.newInstance(resultSet.getObject(dumperConfig.getUniqueKey()), ((PrimaryKeyPosition<?>) dumperConfig.getPosition()).getEndValue());
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskCheckStatistics;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskDelay;
 
 /**
@@ -31,4 +32,6 @@ public final class YamlJobItemIncrementalTasksProgress {
     private String position;
     
     private IncrementalTaskDelay delay;
+    
+    private IncrementalTaskCheckStatistics checkStatistics;
 }
@@ -43,6 +43,7 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         YamlJobItemIncrementalTasksProgress result = new YamlJobItemIncrementalTasksProgress();
         result.setPosition(progress.getIncrementalTaskProgress().getPosition().toString());
         result.setDelay(progress.getIncrementalTaskProgress().getIncrementalTaskDelay());
+        result.setCheckStatistics(progress.getIncrementalTaskProgress().getIncrementalTaskCheckStatistics());
         return result;
     }
     
@@ -61,6 +62,7 @@ public final class YamlJobItemIncrementalTasksProgressSwapper {
         // TODO databaseType
         taskProgress.setPosition(PositionInitializerFactory.getInstance(databaseType).init(yamlProgress.getPosition()));
         taskProgress.setIncrementalTaskDelay(yamlProgress.getDelay());
+        taskProgress.setIncrementalTaskCheckStatistics(yamlProgress.getCheckStatistics());
         return new JobItemIncrementalTasksProgress(taskProgress);
     }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.infra.util.exception.ShardingSpherePrecondition
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Pipeline table meta data util.
@@ -36,7 +37,7 @@ import java.util.List;
 public final class PipelineTableMetaDataUtil {
     
     /**
-     * Get unique key column.
+     * Get unique key column, it's the first column of unique key if unique key is composite.
      *
      * @param schemaName schema name
      * @param tableName table name
@@ -44,25 +45,35 @@ public final class PipelineTableMetaDataUtil {
      * @return pipeline column meta data
      */
     public static PipelineColumnMetaData getUniqueKeyColumn(final String schemaName, final String tableName, final PipelineTableMetaDataLoader metaDataLoader) {
+        return getUniqueKeyColumns(schemaName, tableName, metaDataLoader).get(0);
+    }
+    
+    /**
+     * Get unique key columns.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param metaDataLoader meta data loader
+     * @return pipeline column meta data list of primary key, or of unique index if there is no primary key
+     */
+    public static List<PipelineColumnMetaData> getUniqueKeyColumns(final String schemaName, final String tableName, final PipelineTableMetaDataLoader metaDataLoader) {
         PipelineTableMetaData pipelineTableMetaData = metaDataLoader.getTableMetaData(schemaName, tableName);
-        return mustGetAnAppropriateUniqueKeyColumn(pipelineTableMetaData, tableName);
+        return mustGetAnAppropriateUniqueKeyColumns(pipelineTableMetaData, tableName);
     }
     
-    private static PipelineColumnMetaData mustGetAnAppropriateUniqueKeyColumn(final PipelineTableMetaData tableMetaData, final String tableName) {
+    private static List<PipelineColumnMetaData> mustGetAnAppropriateUniqueKeyColumns(final PipelineTableMetaData tableMetaData, final String tableName) {
         ShardingSpherePreconditions.checkNotNull(tableMetaData, () -> new SplitPipelineJobByRangeException(tableName, "Can not get table meta data"));
         List<String> primaryKeys = tableMetaData.getPrimaryKeyColumns();
-        if (1 == primaryKeys.size()) {
-            return tableMetaData.getColumnMetaData(tableMetaData.getPrimaryKeyColumns().get(0));
+        if (!primaryKeys.isEmpty()) {
+            return primaryKeys.stream().map(tableMetaData::getColumnMetaData).collect(Collectors.toList());
         }
-        ShardingSpherePreconditions.checkState(primaryKeys.isEmpty(), () -> new SplitPipelineJobByRangeException(tableName, "primary key is union primary"));
         Collection<PipelineIndexMetaData> uniqueIndexes = tableMetaData.getUniqueIndexes();
         ShardingSpherePreconditions.checkState(!uniqueIndexes.isEmpty(), () -> new SplitPipelineJobByRangeException(tableName, "no primary key or unique index"));
-        if (1 == uniqueIndexes.size() && 1 == uniqueIndexes.iterator().next().getColumns().size()) {
-            PipelineColumnMetaData column = uniqueIndexes.iterator().next().getColumns().get(0);
-            if (!column.isNullable()) {
-                return column;
+        for (PipelineIndexMetaData each : uniqueIndexes) {
+            if (each.getColumns().stream().noneMatch(PipelineColumnMetaData::isNullable)) {
+                return each.getColumns();
             }
         }
-        throw new SplitPipelineJobByRangeException(tableName, "table contains multiple unique index or unique index contains nullable/multiple column(s)");
+        throw new SplitPipelineJobByRangeException(tableName, "all unique indexes contain nullable column(s)");
     }
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPositio
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.TuplePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.InventoryIncrementalJobItemProgress;
 import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
@@ -42,15 +43,21 @@ import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
+import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Inventory data task splitter.
@@ -59,6 +66,8 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final double MIN_INTEGER_KEY_DENSITY = 0.5D;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -108,13 +117,13 @@ public final class InventoryTaskSplitter {
     
     private Collection<InventoryDumperConfiguration> splitByPrimaryKey(final InventoryDumperConfiguration dumperConfig, final InventoryIncrementalJobItemContext jobItemContext,
                                                                        final DataSource dataSource) {
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        List<PipelineColumnMetaData> uniqueKeyColumns = PipelineTableMetaDataUtil.getUniqueKeyColumns(schemaName, dumperConfig.getActualTableName(), jobItemContext.getSourceMetaDataLoader());
         if (null == dumperConfig.getUniqueKey()) {
-            String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
-            String actualTableName = dumperConfig.getActualTableName();
-            PipelineColumnMetaData uniqueKeyColumn = PipelineTableMetaDataUtil.getUniqueKeyColumn(schemaName, actualTableName, jobItemContext.getSourceMetaDataLoader());
-            dumperConfig.setUniqueKey(uniqueKeyColumn.getName());
-            dumperConfig.setUniqueKeyDataType(uniqueKeyColumn.getDataType());
+            dumperConfig.setUniqueKey(uniqueKeyColumns.get(0).getName());
+            dumperConfig.setUniqueKeyDataType(uniqueKeyColumns.get(0).getDataType());
         }
+        dumperConfig.setUniqueKeyColumns(uniqueKeyColumns);
         Collection<InventoryDumperConfiguration> result = new LinkedList<>();
         InventoryIncrementalProcessContext jobProcessContext = jobItemContext.getJobProcessContext();
         PipelineReadConfiguration readConfig = jobProcessContext.getPipelineProcessConfig().getRead();
@@ -130,6 +139,7 @@ public final class InventoryTaskSplitter {
             splitDumperConfig.setLogicTableName(dumperConfig.getLogicTableName());
             splitDumperConfig.setUniqueKey(dumperConfig.getUniqueKey());
             splitDumperConfig.setUniqueKeyDataType(dumperConfig.getUniqueKeyDataType());
+            splitDumperConfig.setUniqueKeyColumns(dumperConfig.getUniqueKeyColumns());
             splitDumperConfig.setBatchSize(batchSize);
             splitDumperConfig.setRateLimitAlgorithm(rateLimitAlgorithm);
             result.add(splitDumperConfig);
@@ -144,58 +154,147 @@ public final class InventoryTaskSplitter {
             // Do NOT filter FinishedPosition here, since whole inventory tasks are required in job progress when persisting to register center.
             return initProgress.getInventory().getInventoryPosition(dumperConfig.getActualTableName()).values();
         }
+        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
         int uniqueKeyDataType = dumperConfig.getUniqueKeyDataType();
-        if (PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isIntegerColumn(uniqueKeyDataType)) {
             return getPositionByIntegerPrimaryKeyRange(jobItemContext, dataSource, dumperConfig);
         }
-        if (PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
+        if (1 == uniqueKeyColumns.size() && PipelineJdbcUtils.isStringColumn(uniqueKeyDataType)) {
             return getPositionByStringPrimaryKeyRange(jobItemContext, dataSource, dumperConfig);
         }
-        throw new SplitPipelineJobByRangeException(dumperConfig.getActualTableName(), "primary key is not integer or string type");
+        if (uniqueKeyColumns.stream().allMatch(each -> PipelineJdbcUtils.isTupleKeyColumn(each.getDataType()))) {
+            return getPositionByTupleKeyRange(jobItemContext, dataSource, dumperConfig);
+        }
+        throw new SplitPipelineJobByRangeException(dumperConfig.getActualTableName(), "unique key contains column which could not be compared as row value");
     }
     
     private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                               final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String sql = sqlBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
         int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
         try (
                 Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            long recordsCount = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
-                preparedStatement.setLong(1, beginId);
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            long recordsCount = resultSet.next() ? resultSet.getLong(3) : 0;
+            jobItemContext.updateInventoryRecordsCount(recordsCount);
+            // fix empty table missing inventory task
+            if (0 == recordsCount || null == resultSet.getObject(1)) {
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+            }
+            long minimumValue = resultSet.getLong(1);
+            long maximumValue = resultSet.getLong(2);
+            if (isSparse(minimumValue, maximumValue, recordsCount)) {
+                String splitSQL = sqlBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+                return getIntegerPositionsByWindow(connection, splitSQL, minimumValue, maximumValue, shardingSize);
+            }
+            return getIntegerPositions(minimumValue, maximumValue, recordsCount, shardingSize);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
+        }
+    }
+    
+    private boolean isSparse(final long minimumValue, final long maximumValue, final long recordsCount) {
+        double keySpan = BigInteger.valueOf(maximumValue).subtract(BigInteger.valueOf(minimumValue)).add(BigInteger.ONE).doubleValue();
+        return recordsCount / keySpan < MIN_INTEGER_KEY_DENSITY;
+    }
+    
+    private Collection<IngestPosition<?>> getIntegerPositionsByWindow(final Connection connection, final String splitSQL,
+                                                                      final long minimumValue, final long maximumValue, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(splitSQL)) {
+            long beginValue = minimumValue;
+            while (true) {
+                preparedStatement.setLong(1, beginValue);
                 preparedStatement.setLong(2, shardingSize);
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                    if (!resultSet.next()) {
+                    if (!resultSet.next() || 0 == resultSet.getLong(2)) {
                         break;
                     }
-                    long endId = resultSet.getLong(1);
-                    recordsCount += resultSet.getLong(2);
-                    if (0 == endId) {
+                    long endValue = resultSet.getLong(1);
+                    result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+                    if (endValue >= maximumValue) {
                         break;
                     }
-                    result.add(new IntegerPrimaryKeyPosition(beginId, endId));
-                    beginId = endId + 1;
+                    beginValue = endValue + 1;
                 }
             }
-            jobItemContext.updateInventoryRecordsCount(recordsCount);
-            // fix empty table missing inventory task
-            if (result.isEmpty()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
+        }
+        return result;
+    }
+    
+    private Collection<IngestPosition<?>> getIntegerPositions(final long minimumValue, final long maximumValue, final long recordsCount, final int shardingSize) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        BigInteger maximum = BigInteger.valueOf(maximumValue);
+        BigInteger keySpan = maximum.subtract(BigInteger.valueOf(minimumValue)).add(BigInteger.ONE);
+        BigInteger splitCount = BigInteger.valueOf((recordsCount + shardingSize - 1) / shardingSize).max(BigInteger.ONE).min(keySpan);
+        BigInteger stepSize = keySpan.add(splitCount).subtract(BigInteger.ONE).divide(splitCount);
+        BigInteger beginValue = BigInteger.valueOf(minimumValue);
+        while (beginValue.compareTo(maximum) <= 0) {
+            BigInteger endValue = beginValue.add(stepSize).subtract(BigInteger.ONE).min(maximum);
+            result.add(new IntegerPrimaryKeyPosition(beginValue.longValue(), endValue.longValue()));
+            beginValue = endValue.add(BigInteger.ONE);
+        }
+        return result;
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                             final InventoryDumperConfiguration dumperConfig) {
+        updateInventoryRecordsCount(jobItemContext, dataSource, dumperConfig);
+        return Collections.singletonList(new StringPrimaryKeyPosition("!", "~"));
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByTupleKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
+                                                                     final InventoryDumperConfiguration dumperConfig) {
+        updateInventoryRecordsCount(jobItemContext, dataSource, dumperConfig);
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
+        List<String> uniqueKeys = uniqueKeyColumns.stream().map(PipelineColumnMetaData::getName).collect(Collectors.toList());
+        String firstSplitSQL = sqlBuilder.buildSplitByTupleKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKeys, false);
+        String laterSplitSQL = sqlBuilder.buildSplitByTupleKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), uniqueKeys, true);
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            List<String> beginValue = null;
+            Optional<List<String>> endValue;
+            while ((endValue = getTupleKeySplitEndValue(connection, null == beginValue ? firstSplitSQL : laterSplitSQL, uniqueKeyColumns, beginValue, shardingSize)).isPresent()) {
+                result.add(new TuplePrimaryKeyPosition(beginValue, endValue.get()));
+                beginValue = endValue.get();
             }
+            result.add(new TuplePrimaryKeyPosition(beginValue, null));
         } catch (final SQLException ex) {
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
         }
         return result;
     }
     
-    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
-                                                                             final InventoryDumperConfiguration dumperConfig) {
+    private Optional<List<String>> getTupleKeySplitEndValue(final Connection connection, final String splitSQL, final List<PipelineColumnMetaData> uniqueKeyColumns,
+                                                            final List<String> beginValue, final int shardingSize) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(splitSQL)) {
+            int parameterIndex = 1;
+            if (null != beginValue) {
+                for (int i = 0; i < uniqueKeyColumns.size(); i++) {
+                    preparedStatement.setObject(parameterIndex++, PipelineJdbcUtils.convertTupleKeyValue(beginValue.get(i), uniqueKeyColumns.get(i).getDataType()));
+                }
+            }
+            preparedStatement.setInt(parameterIndex, shardingSize - 1);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                List<String> result = new ArrayList<>(uniqueKeyColumns.size());
+                for (PipelineColumnMetaData each : uniqueKeyColumns) {
+                    result.add(PipelineJdbcUtils.getTupleKeyValue(resultSet, each.getName(), each.getDataType()));
+                }
+                return Optional.of(result);
+            }
+        }
+    }
+    
+    private void updateInventoryRecordsCount(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
         String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         String actualTableName = dumperConfig.getActualTableName();
@@ -210,8 +309,5 @@ public final class InventoryTaskSplitter {
         } catch (final SQLException ex) {
             throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
         }
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        result.add(new StringPrimaryKeyPosition("!", "~"));
-        return result;
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm for SPI.
+ *
+ * <p>Rate is adjusted by additive increase and multiplicative decrease on observed execution latency,
+ * in every window of {@code window-size} executions, and kept in range of {@code min-rate} and {@code max-rate}.</p>
+ */
+@Slf4j
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String MIN_RATE_KEY = "min-rate";
+    
+    private static final String MAX_RATE_KEY = "max-rate";
+    
+    private static final String LATENCY_THRESHOLD_MILLIS_KEY = "latency-threshold-millis";
+    
+    private static final String INCREASE_STEP_KEY = "increase-step";
+    
+    private static final String DECREASE_FACTOR_KEY = "decrease-factor";
+    
+    private static final String WINDOW_SIZE_KEY = "window-size";
+    
+    private double minRate = 50D;
+    
+    private double maxRate = 2000D;
+    
+    private long latencyThresholdMillis = 200L;
+    
+    private double increaseStep = 50D;
+    
+    private double decreaseFactor = 0.5D;
+    
+    private int windowSize = 10;
+    
+    private RateLimiter rateLimiter;
+    
+    private int windowExecutionCount;
+    
+    private long windowCostMillis;
+    
+    @Getter
+    private Properties props = new Properties();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        minRate = getDoubleValue(props, MIN_RATE_KEY, minRate);
+        maxRate = getDoubleValue(props, MAX_RATE_KEY, maxRate);
+        latencyThresholdMillis = (long) getDoubleValue(props, LATENCY_THRESHOLD_MILLIS_KEY, latencyThresholdMillis);
+        increaseStep = getDoubleValue(props, INCREASE_STEP_KEY, increaseStep);
+        decreaseFactor = getDoubleValue(props, DECREASE_FACTOR_KEY, decreaseFactor);
+        windowSize = (int) getDoubleValue(props, WINDOW_SIZE_KEY, windowSize);
+        Preconditions.checkArgument(minRate > 0 && minRate <= maxRate, "Invalid rate range, %s=%s, %s=%s", MIN_RATE_KEY, minRate, MAX_RATE_KEY, maxRate);
+        Preconditions.checkArgument(decreaseFactor > 0 && decreaseFactor < 1, "%s must be in range (0, 1)", DECREASE_FACTOR_KEY);
+        Preconditions.checkArgument(increaseStep > 0 && windowSize > 0, "%s and %s must be positive", INCREASE_STEP_KEY, WINDOW_SIZE_KEY);
+        rateLimiter = RateLimiter.create(minRate);
+    }
+    
+    private double getDoubleValue(final Properties props, final String key, final double defaultValue) {
+        String value = props.getProperty(key);
+        return Strings.isNullOrEmpty(value) ? defaultValue : Double.parseDouble(value);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        rateLimiter.acquire(null != data ? data.intValue() : 1);
+    }
+    
+    @Override
+    public synchronized void onExecuted(final JobOperationType type, final long costMillis) {
+        windowCostMillis += costMillis;
+        if (++windowExecutionCount < windowSize) {
+            return;
+        }
+        long averageCostMillis = windowCostMillis / windowExecutionCount;
+        windowExecutionCount = 0;
+        windowCostMillis = 0L;
+        double currentRate = rateLimiter.getRate();
+        double newRate = averageCostMillis > latencyThresholdMillis ? currentRate * decreaseFactor : currentRate + increaseStep;
+        newRate = Math.max(minRate, Math.min(maxRate, newRate));
+        if (newRate != currentRate) {
+            log.debug("Adjust rate from {} to {}, averageCostMillis={}", currentRate, newRate, averageCostMillis);
+            rateLimiter.setRate(newRate);
+        }
+    }
+    
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(rateLimiter.getRate());
+    }
+    
+    @Override
+    public String toString() {
+        return "AdaptiveJobRateLimitAlgorithm{" + "props=" + props + '}';
+    }
+}
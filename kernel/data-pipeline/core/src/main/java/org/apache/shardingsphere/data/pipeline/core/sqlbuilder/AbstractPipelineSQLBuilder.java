@@ -27,9 +27,11 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract pipeline SQL builder.
@@ -84,6 +86,25 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT * FROM %s WHERE %s%s? ORDER BY %s ASC LIMIT ?", qualifiedTableName, quotedUniqueKey, firstQuery ? ">=" : ">", quotedUniqueKey);
     }
     
+    @Override
+    public String buildTupleInventoryDumpSQL(final String schemaName, final String tableName, final List<String> uniqueKeys, final boolean hasBeginValue, final boolean hasEndValue) {
+        String quotedUniqueKeys = uniqueKeys.stream().map(this::quote).collect(Collectors.joining(","));
+        String placeholders = uniqueKeys.stream().map(each -> "?").collect(Collectors.joining(","));
+        Collection<String> conditions = new LinkedList<>();
+        if (hasBeginValue) {
+            conditions.add(String.format("(%s)>(%s)", quotedUniqueKeys, placeholders));
+        }
+        if (hasEndValue) {
+            conditions.add(String.format("(%s)<=(%s)", quotedUniqueKeys, placeholders));
+        }
+        String whereClause = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        return String.format("SELECT * FROM %s%s ORDER BY %s LIMIT ?", getQualifiedTableName(schemaName, tableName), whereClause, buildAscendingOrderBy(uniqueKeys));
+    }
+    
+    private String buildAscendingOrderBy(final List<String> uniqueKeys) {
+        return uniqueKeys.stream().map(each -> quote(each) + " ASC").collect(Collectors.joining(","));
+    }
+    
     protected final String getQualifiedTableName(final String schemaName, final String tableName) {
         StringBuilder result = new StringBuilder();
         if (DatabaseTypeFactory.getInstance(getType()).isSchemaAvailable() && !Strings.isNullOrEmpty(schemaName)) {
@@ -155,6 +176,11 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("DELETE FROM %s WHERE %s", getQualifiedTableName(schemaName, tableName), buildWhereSQL(conditionColumns));
     }
     
+    @Override
+    public String buildQueryByUniqueKeySQL(final String schemaName, final String tableName, final Collection<Column> uniqueKeyColumns) {
+        return String.format("SELECT * FROM %s WHERE %s", getQualifiedTableName(schemaName, tableName), buildWhereSQL(uniqueKeyColumns));
+    }
+    
     private String buildWhereSQL(final Collection<Column> conditionColumns) {
         StringBuilder where = new StringBuilder();
         for (Column each : conditionColumns) {
@@ -189,4 +215,17 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildSplitByTupleKeyRangeSQL(final String schemaName, final String tableName, final List<String> uniqueKeys, final boolean hasBeginValue) {
+        String quotedUniqueKeys = uniqueKeys.stream().map(this::quote).collect(Collectors.joining(","));
+        String whereClause = hasBeginValue ? String.format(" WHERE (%s)>(%s)", quotedUniqueKeys, uniqueKeys.stream().map(each -> "?").collect(Collectors.joining(","))) : "";
+        return String.format("SELECT %s FROM %s%s ORDER BY %s LIMIT 1 OFFSET ?", quotedUniqueKeys, getQualifiedTableName(schemaName, tableName), whereClause, buildAscendingOrderBy(uniqueKeys));
+    }
+    
+    @Override
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
+    }
 }
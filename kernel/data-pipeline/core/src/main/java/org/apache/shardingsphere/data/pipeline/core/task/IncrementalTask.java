@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.api.job.progress.InventoryIncreme
 import org.apache.shardingsphere.data.pipeline.api.job.progress.listener.PipelineJobProgressListener;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.IncrementalDataConsistencyChecker;
 import org.apache.shardingsphere.data.pipeline.core.context.InventoryIncrementalJobItemContext;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteCallback;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
@@ -49,7 +50,7 @@ import java.util.concurrent.CompletableFuture;
  * Incremental task.
  */
 @Slf4j
-@ToString(exclude = {"incrementalExecuteEngine", "channel", "dumper", "importers", "taskProgress"})
+@ToString(exclude = {"incrementalExecuteEngine", "channel", "dumper", "importers", "taskProgress", "incrementalChecker"})
 public final class IncrementalTask implements PipelineTask, AutoCloseable {
     
     @Getter
@@ -66,15 +67,21 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
     @Getter
     private final IncrementalTaskProgress taskProgress;
     
+    private final IncrementalDataConsistencyChecker incrementalChecker;
+    
     // TODO simplify parameters
     public IncrementalTask(final int concurrency, final DumperConfiguration dumperConfig, final ImporterConfiguration importerConfig,
                            final PipelineChannelCreator pipelineChannelCreator, final ImporterConnector importerConnector,
                            final PipelineTableMetaDataLoader sourceMetaDataLoader, final ExecuteEngine incrementalExecuteEngine,
-                           final InventoryIncrementalJobItemContext jobItemContext) {
+                           final InventoryIncrementalJobItemContext jobItemContext, final IncrementalDataConsistencyChecker incrementalChecker) {
         taskId = dumperConfig.getDataSourceName();
         this.incrementalExecuteEngine = incrementalExecuteEngine;
+        this.incrementalChecker = incrementalChecker;
         IngestPosition<?> position = dumperConfig.getPosition();
         taskProgress = createIncrementalTaskProgress(position, jobItemContext.getInitProgress());
+        if (null != incrementalChecker) {
+            taskProgress.setIncrementalTaskCheckStatistics(incrementalChecker.getStatistics());
+        }
         channel = createChannel(concurrency, pipelineChannelCreator, taskProgress);
         dumper = IncrementalDumperCreatorFactory.getInstance(dumperConfig.getDataSourceConfig().getDatabaseType().getType()).createIncrementalDumper(dumperConfig, position, channel,
                 sourceMetaDataLoader);
@@ -108,6 +115,9 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
                 progress.getIncrementalTaskDelay().setLastEventTimestamps(lastHandledRecord.getCommitTime());
             }
             progress.getIncrementalTaskDelay().setLatestActiveTimeMillis(System.currentTimeMillis());
+            if (null != incrementalChecker) {
+                incrementalChecker.onAck(records);
+            }
         });
     }
     
@@ -155,5 +165,8 @@ public final class IncrementalTask implements PipelineTask, AutoCloseable {
     @Override
     public void close() {
         channel.close();
+        if (null != incrementalChecker) {
+            incrementalChecker.close();
+        }
     }
 }
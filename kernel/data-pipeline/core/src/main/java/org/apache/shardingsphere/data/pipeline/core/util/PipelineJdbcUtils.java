@@ -20,6 +20,11 @@ package org.apache.shardingsphere.data.pipeline.core.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.sql.Types;
 
 /**
@@ -57,4 +62,75 @@ public final class PipelineJdbcUtils {
                 return false;
         }
     }
+    
+    /**
+     * Whether column could be a column of tuple unique key, the key values are compared as row value and kept as string in position.
+     *
+     * @param columnType column type, value of java.sql.Types
+     * @return true or false
+     */
+    public static boolean isTupleKeyColumn(final int columnType) {
+        if (isIntegerColumn(columnType) || isStringColumn(columnType)) {
+            return true;
+        }
+        switch (columnType) {
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.DATE:
+            case Types.TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+    
+    /**
+     * Convert string value of tuple unique key column to JDBC parameter value.
+     *
+     * @param value string value
+     * @param columnType column type, value of java.sql.Types
+     * @return JDBC parameter value
+     */
+    public static Object convertTupleKeyValue(final String value, final int columnType) {
+        if (isIntegerColumn(columnType)) {
+            return Long.parseLong(value);
+        }
+        switch (columnType) {
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return new BigDecimal(value);
+            case Types.DATE:
+                return Date.valueOf(value);
+            case Types.TIMESTAMP:
+                return Timestamp.valueOf(value);
+            default:
+                return value;
+        }
+    }
+    
+    /**
+     * Get string value of tuple unique key column, it could be converted back by {@link #convertTupleKeyValue(String, int)}.
+     *
+     * @param resultSet result set
+     * @param columnLabel column label
+     * @param columnType column type, value of java.sql.Types
+     * @return string value
+     * @throws SQLException SQL exception
+     */
+    public static String getTupleKeyValue(final ResultSet resultSet, final String columnLabel, final int columnType) throws SQLException {
+        if (isIntegerColumn(columnType)) {
+            return String.valueOf(resultSet.getLong(columnLabel));
+        }
+        switch (columnType) {
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return resultSet.getBigDecimal(columnLabel).toPlainString();
+            case Types.DATE:
+                return resultSet.getDate(columnLabel).toString();
+            case Types.TIMESTAMP:
+                return resultSet.getTimestamp(columnLabel).toString();
+            default:
+                return resultSet.getString(columnLabel);
+        }
+    }
 }
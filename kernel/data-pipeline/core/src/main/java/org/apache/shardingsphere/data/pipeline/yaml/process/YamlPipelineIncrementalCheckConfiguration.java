@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.yaml.process;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.util.yaml.YamlConfiguration;
+
+/**
+ * YAML pipeline incremental check configuration.
+ */
+@Getter
+@Setter
+public final class YamlPipelineIncrementalCheckConfiguration implements YamlConfiguration {
+    
+    private static final Double DEFAULT_SAMPLE_RATE = 0.01D;
+    
+    private static final Long DEFAULT_DELAY_MILLIS = 5000L;
+    
+    private Double sampleRate;
+    
+    private Long delayMillis;
+    
+    /**
+     * Fill in null fields with default value.
+     */
+    public void fillInNullFieldsWithDefaultValue() {
+        if (null == sampleRate) {
+            sampleRate = DEFAULT_SAMPLE_RATE;
+        }
+        if (null == delayMillis) {
+            delayMillis = DEFAULT_DELAY_MILLIS;
+        }
+    }
+    
+    /**
+     * Copy non-null fields from another.
+     *
+     * @param another another configuration
+     */
+    public void copyNonNullFields(final YamlPipelineIncrementalCheckConfiguration another) {
+        if (null == another) {
+            return;
+        }
+        if (null != another.sampleRate) {
+            sampleRate = another.sampleRate;
+        }
+        if (null != another.delayMillis) {
+            delayMillis = another.delayMillis;
+        }
+    }
+}
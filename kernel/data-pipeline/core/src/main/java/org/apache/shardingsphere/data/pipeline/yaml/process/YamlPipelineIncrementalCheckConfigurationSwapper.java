@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.yaml.process;
+
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
+import org.apache.shardingsphere.infra.util.yaml.swapper.YamlConfigurationSwapper;
+
+/**
+ * YAML pipeline incremental check configuration swapper.
+ */
+public final class YamlPipelineIncrementalCheckConfigurationSwapper implements YamlConfigurationSwapper<YamlPipelineIncrementalCheckConfiguration, PipelineIncrementalCheckConfiguration> {
+    
+    @Override
+    public YamlPipelineIncrementalCheckConfiguration swapToYamlConfiguration(final PipelineIncrementalCheckConfiguration data) {
+        if (null == data) {
+            return null;
+        }
+        YamlPipelineIncrementalCheckConfiguration result = new YamlPipelineIncrementalCheckConfiguration();
+        result.setSampleRate(data.getSampleRate());
+        result.setDelayMillis(data.getDelayMillis());
+        return result;
+    }
+    
+    @Override
+    public PipelineIncrementalCheckConfiguration swapToObject(final YamlPipelineIncrementalCheckConfiguration yamlConfig) {
+        return null == yamlConfig ? null : new PipelineIncrementalCheckConfiguration(yamlConfig.getSampleRate(), yamlConfig.getDelayMillis());
+    }
+}
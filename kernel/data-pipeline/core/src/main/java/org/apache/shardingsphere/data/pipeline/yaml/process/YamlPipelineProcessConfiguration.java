@@ -37,6 +37,8 @@ public final class YamlPipelineProcessConfiguration implements YamlConfiguration
     
     private YamlAlgorithmConfiguration streamChannel;
     
+    private YamlPipelineIncrementalCheckConfiguration incrementalCheck;
+    
     /**
      * Copy non-null fields from another.
      *
@@ -60,6 +62,11 @@ public final class YamlPipelineProcessConfiguration implements YamlConfiguration
         if (null == streamChannel) {
             streamChannel = another.streamChannel;
         }
+        if (null == incrementalCheck) {
+            incrementalCheck = another.incrementalCheck;
+        } else {
+            incrementalCheck.copyNonNullFields(another.incrementalCheck);
+        }
     }
     
     /**
@@ -69,6 +76,7 @@ public final class YamlPipelineProcessConfiguration implements YamlConfiguration
         read = null;
         write = null;
         streamChannel = null;
+        incrementalCheck = null;
     }
     
     /**
@@ -87,6 +95,9 @@ public final class YamlPipelineProcessConfiguration implements YamlConfiguration
             case "STREAM_CHANNEL":
                 streamChannel = null;
                 break;
+            case "INCREMENTAL_CHECK":
+                incrementalCheck = null;
+                break;
             default:
                 break;
         }
@@ -98,6 +109,6 @@ public final class YamlPipelineProcessConfiguration implements YamlConfiguration
      * @return true if all fields is null, otherwise is false.
      */
     public boolean isAllFieldsNull() {
-        return null == read && null == write && null == streamChannel;
+        return null == read && null == write && null == streamChannel && null == incrementalCheck;
     }
 }
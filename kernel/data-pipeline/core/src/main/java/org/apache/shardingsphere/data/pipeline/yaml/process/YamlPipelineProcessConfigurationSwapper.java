@@ -32,6 +32,8 @@ public final class YamlPipelineProcessConfigurationSwapper implements YamlConfig
     
     private final YamlPipelineWriteConfigurationSwapper writeConfigSwapper = new YamlPipelineWriteConfigurationSwapper();
     
+    private final YamlPipelineIncrementalCheckConfigurationSwapper incrementalCheckConfigSwapper = new YamlPipelineIncrementalCheckConfigurationSwapper();
+    
     @Override
     public YamlPipelineProcessConfiguration swapToYamlConfiguration(final PipelineProcessConfiguration data) {
         if (null == data) {
@@ -41,6 +43,7 @@ public final class YamlPipelineProcessConfigurationSwapper implements YamlConfig
         result.setRead(readConfigSwapper.swapToYamlConfiguration(data.getRead()));
         result.setWrite(writeConfigSwapper.swapToYamlConfiguration(data.getWrite()));
         result.setStreamChannel(algorithmSwapper.swapToYamlConfiguration(data.getStreamChannel()));
+        result.setIncrementalCheck(incrementalCheckConfigSwapper.swapToYamlConfiguration(data.getIncrementalCheck()));
         return result;
     }
     
@@ -49,6 +52,7 @@ public final class YamlPipelineProcessConfigurationSwapper implements YamlConfig
         return null == yamlConfig
                 ? null
                 : new PipelineProcessConfiguration(
-                        readConfigSwapper.swapToObject(yamlConfig.getRead()), writeConfigSwapper.swapToObject(yamlConfig.getWrite()), algorithmSwapper.swapToObject(yamlConfig.getStreamChannel()));
+                        readConfigSwapper.swapToObject(yamlConfig.getRead()), writeConfigSwapper.swapToObject(yamlConfig.getWrite()), algorithmSwapper.swapToObject(yamlConfig.getStreamChannel()),
+                        incrementalCheckConfigSwapper.swapToObject(yamlConfig.getIncrementalCheck()));
     }
 }
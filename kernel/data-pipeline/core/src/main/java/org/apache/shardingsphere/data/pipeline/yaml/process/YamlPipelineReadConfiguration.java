@@ -43,6 +43,8 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
     
     private YamlAlgorithmConfiguration rateLimiter;
     
+    private String decodingPlugin;
+    
     /**
      * Build with default value.
      *
@@ -92,6 +94,9 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
         if (null != another.rateLimiter) {
             rateLimiter = another.rateLimiter;
         }
+        if (null != another.decodingPlugin) {
+            decodingPlugin = another.decodingPlugin;
+        }
     }
     
     /**
@@ -113,6 +118,9 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
             case "RATE_LIMITER":
                 rateLimiter = null;
                 break;
+            case "DECODING_PLUGIN":
+                decodingPlugin = null;
+                break;
             default:
                 break;
         }
@@ -38,6 +38,7 @@ public final class YamlPipelineReadConfigurationSwapper implements YamlConfigura
         result.setBatchSize(data.getBatchSize());
         result.setShardingSize(data.getShardingSize());
         result.setRateLimiter(algorithmSwapper.swapToYamlConfiguration(data.getRateLimiter()));
+        result.setDecodingPlugin(data.getDecodingPlugin());
         return result;
     }
     
@@ -45,6 +46,7 @@ public final class YamlPipelineReadConfigurationSwapper implements YamlConfigura
     public PipelineReadConfiguration swapToObject(final YamlPipelineReadConfiguration yamlConfig) {
         return null == yamlConfig
                 ? null
-                : new PipelineReadConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()));
+                : new PipelineReadConfiguration(yamlConfig.getWorkerThread(), yamlConfig.getBatchSize(), yamlConfig.getShardingSize(), algorithmSwapper.swapToObject(yamlConfig.getRateLimiter()),
+                        yamlConfig.getDecodingPlugin());
     }
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChunkedChecksumMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private DataConsistencyCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", uniqueKey, null);
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    public void assertCalculateChunks() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT CHECKSUM(id) FROM foo_tbl")).thenReturn(preparedStatement);
+        ResultSet firstResultSet = mockResultSet(true, 2, 2, "abc");
+        ResultSet secondResultSet = mockResultSet(true, null, 0, null);
+        when(preparedStatement.executeQuery()).thenReturn(firstResultSet, secondResultSet);
+        ChunkedChecksumMatchDataConsistencyCalculateAlgorithm algorithm = new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("chunk-size", "2");
+        algorithm.init(props);
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(parameter).iterator();
+        DataConsistencyCalculatedResult firstResult = actual.next();
+        assertThat(firstResult.getRecordsCount(), is(2));
+        assertThat(firstResult.getMaxUniqueKeyValue().orElse(null), is(2));
+        assertFalse(actual.hasNext());
+        verify(preparedStatement).setObject(1, 2);
+    }
+    
+    private ResultSet mockResultSet(final boolean hasNext, final Object maxUniqueKeyValue, final int recordsCount, final String checksum) throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        when(result.next()).thenReturn(hasNext);
+        when(result.getInt(2)).thenReturn(recordsCount);
+        if (recordsCount > 0) {
+            when(result.getObject(1)).thenReturn(maxUniqueKeyValue);
+            when(result.getString(3)).thenReturn(checksum);
+        }
+        return result;
+    }
+    
+    @Test
+    public void assertCalculatedResultEquals() {
+        ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult expected = new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, 10, 10, "abc");
+        assertThat(new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, 10, 10, "abc"), is(expected));
+        assertThat(new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, 10, 10, "abd"), not(expected));
+        assertThat(new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, 11, 10, "abc"), not(expected));
+        assertThat(new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, 10L, 10, "abc"), is(expected));
+        assertThat(new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm.CalculatedResult(null, new BigDecimal("10.0"), 10, "abc"), is(expected));
+        assertTrue(expected.getMaxUniqueKeyValue().isPresent());
+    }
+    
+    @Test
+    public void assertCalculateFailed() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        ChunkedChecksumMatchDataConsistencyCalculateAlgorithm algorithm = new ChunkedChecksumMatchDataConsistencyCalculateAlgorithm();
+        algorithm.init(new Properties());
+        assertThrows(PipelineTableDataConsistencyCheckLoadingFailedException.class, () -> algorithm.calculate(parameter).iterator().hasNext());
+    }
+}
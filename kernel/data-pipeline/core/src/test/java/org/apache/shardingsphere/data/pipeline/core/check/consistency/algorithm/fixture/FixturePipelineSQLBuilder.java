@@ -38,6 +38,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildTupleInventoryDumpSQL(final String schemaName, final String tableName, final List<String> uniqueKeys, final boolean hasBeginValue, final boolean hasEndValue) {
+        return "";
+    }
+    
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
         return "";
@@ -58,6 +63,11 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildQueryByUniqueKeySQL(final String schemaName, final String tableName, final Collection<Column> uniqueKeyColumns) {
+        return "";
+    }
+    
     @Override
     public String buildDropSQL(final String schemaName, final String tableName) {
         return "";
@@ -83,11 +93,26 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByTupleKeyRangeSQL(final String schemaName, final String tableName, final List<String> uniqueKeys, final boolean hasBeginValue) {
+        return "";
+    }
+    
+    @Override
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildChunkedChecksumSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.of(String.format("SELECT CHECKSUM(%s) FROM %s", uniqueKey, tableName));
+    }
+    
     @Override
     public String getType() {
         return "FIXTURE";
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class PlaceholderRecordCoalescerTest {
+    
+    private final PipelineChannel channel = mock(PipelineChannel.class);
+    
+    @Test
+    public void assertPushRecordWithMaxCoalescedCount() {
+        PlaceholderRecordCoalescer coalescer = new PlaceholderRecordCoalescer(channel, 3, Long.MAX_VALUE);
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        verify(channel, never()).pushRecord(any(Record.class));
+        PlaceholderRecord lastRecord = new PlaceholderRecord(new PlaceholderPosition());
+        coalescer.pushRecord(lastRecord);
+        verify(channel).pushRecord(lastRecord);
+    }
+    
+    @Test
+    public void assertPushRecordWithMaxCoalescedMillis() {
+        PlaceholderRecordCoalescer coalescer = new PlaceholderRecordCoalescer(channel, Integer.MAX_VALUE, 0L);
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        verify(channel, times(2)).pushRecord(any(PlaceholderRecord.class));
+    }
+    
+    @Test
+    public void assertPushDataRecordDiscardsPendingPlaceholder() {
+        PlaceholderRecordCoalescer coalescer = new PlaceholderRecordCoalescer(channel, Integer.MAX_VALUE, Long.MAX_VALUE);
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 0);
+        coalescer.pushRecord(dataRecord);
+        coalescer.flush();
+        verify(channel).pushRecord(dataRecord);
+        verify(channel, times(1)).pushRecord(any(Record.class));
+    }
+    
+    @Test
+    public void assertFlush() {
+        PlaceholderRecordCoalescer coalescer = new PlaceholderRecordCoalescer(channel, Integer.MAX_VALUE, Long.MAX_VALUE);
+        coalescer.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        PlaceholderRecord pendingRecord = new PlaceholderRecord(new PlaceholderPosition());
+        coalescer.pushRecord(pendingRecord);
+        coalescer.flushIfExpired();
+        verify(channel, never()).pushRecord(pendingRecord);
+        coalescer.flush();
+        verify(channel).pushRecord(pendingRecord);
+    }
+}
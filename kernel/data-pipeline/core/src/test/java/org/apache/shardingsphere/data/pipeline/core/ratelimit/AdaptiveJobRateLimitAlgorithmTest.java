@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    private AdaptiveJobRateLimitAlgorithm algorithm;
+    
+    @Before
+    public void setUp() {
+        algorithm = new AdaptiveJobRateLimitAlgorithm();
+        algorithm.init(createProperties("100", "400"));
+    }
+    
+    private Properties createProperties(final String minRate, final String maxRate) {
+        Properties result = new Properties();
+        result.setProperty("min-rate", minRate);
+        result.setProperty("max-rate", maxRate);
+        result.setProperty("latency-threshold-millis", "100");
+        result.setProperty("increase-step", "100");
+        result.setProperty("decrease-factor", "0.5");
+        result.setProperty("window-size", "2");
+        return result;
+    }
+    
+    @Test
+    public void assertInitialRate() {
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(100D));
+    }
+    
+    @Test
+    public void assertIncreaseRateWithinMaxRate() {
+        executeWindow(10L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(200D));
+        executeWindow(10L);
+        executeWindow(10L);
+        executeWindow(10L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(400D));
+    }
+    
+    @Test
+    public void assertDecreaseRateWithinMinRate() {
+        executeWindow(10L);
+        executeWindow(10L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(300D));
+        executeWindow(500L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(150D));
+        executeWindow(500L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(100D));
+    }
+    
+    @Test
+    public void assertRateNotChangedBeforeWindowCompleted() {
+        algorithm.onExecuted(JobOperationType.INSERT, 10L);
+        assertThat(algorithm.getCurrentRate().orElse(0D), is(100D));
+    }
+    
+    @Test
+    public void assertInitWithInvalidRateRange() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveJobRateLimitAlgorithm().init(createProperties("400", "100")));
+    }
+    
+    private void executeWindow(final long costMillis) {
+        algorithm.onExecuted(JobOperationType.SELECT, costMillis);
+        algorithm.onExecuted(JobOperationType.SELECT, costMillis);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.data.pipeline.yaml.process;
 
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineProcessConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineReadConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineWriteConfiguration;
@@ -41,6 +42,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
+        assertThat(actual.getRead().getDecodingPlugin(), is("pgoutput"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
@@ -48,6 +50,8 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
         assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("10000"));
+        assertThat(actual.getIncrementalCheck().getSampleRate(), is(0.5D));
+        assertThat(actual.getIncrementalCheck().getDelayMillis(), is(1000L));
     }
     
     private YamlPipelineProcessConfiguration createYamlConfiguration() {
@@ -56,6 +60,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         rateLimiterProps.setProperty("qps", "50");
         YamlPipelineReadConfiguration yamlInputConfig = YamlPipelineReadConfiguration.buildWithDefaultValue();
         yamlInputConfig.setRateLimiter(new YamlAlgorithmConfiguration("INPUT", rateLimiterProps));
+        yamlInputConfig.setDecodingPlugin("pgoutput");
         YamlPipelineProcessConfiguration result = new YamlPipelineProcessConfiguration();
         result.setRead(yamlInputConfig);
         YamlPipelineWriteConfiguration yamlOutputConfig = YamlPipelineWriteConfiguration.buildWithDefaultValue();
@@ -64,6 +69,10 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         Properties streamChannelProps = new Properties();
         streamChannelProps.setProperty("block-queue-size", "10000");
         result.setStreamChannel(new YamlAlgorithmConfiguration("MEMORY", streamChannelProps));
+        YamlPipelineIncrementalCheckConfiguration yamlIncrementalCheckConfig = new YamlPipelineIncrementalCheckConfiguration();
+        yamlIncrementalCheckConfig.setSampleRate(0.5D);
+        yamlIncrementalCheckConfig.setDelayMillis(1000L);
+        result.setIncrementalCheck(yamlIncrementalCheckConfig);
         return result;
     }
     
@@ -72,11 +81,12 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         Properties rateLimiterProps = new Properties();
         rateLimiterProps.setProperty("batch-size", "1000");
         rateLimiterProps.setProperty("qps", "50");
-        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000, new AlgorithmConfiguration("INPUT", rateLimiterProps));
+        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000, new AlgorithmConfiguration("INPUT", rateLimiterProps), "pgoutput");
         PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000, new AlgorithmConfiguration("OUTPUT", rateLimiterProps));
         Properties streamChannelProps = new Properties();
         streamChannelProps.setProperty("block-queue-size", "10000");
-        PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig, new AlgorithmConfiguration("MEMORY", streamChannelProps));
+        PipelineProcessConfiguration config = new PipelineProcessConfiguration(readConfig, writeConfig, new AlgorithmConfiguration("MEMORY", streamChannelProps),
+                new PipelineIncrementalCheckConfiguration(0.1D, 3000L));
         YamlPipelineProcessConfiguration actual = new YamlPipelineProcessConfigurationSwapper().swapToYamlConfiguration(config);
         assertThat(actual.getRead().getWorkerThread(), is(40));
         assertThat(actual.getRead().getBatchSize(), is(1000));
@@ -84,6 +94,7 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
+        assertThat(actual.getRead().getDecodingPlugin(), is("pgoutput"));
         assertThat(actual.getWrite().getWorkerThread(), is(40));
         assertThat(actual.getWrite().getBatchSize(), is(1000));
         assertThat(actual.getWrite().getRateLimiter().getType(), is("OUTPUT"));
@@ -91,6 +102,8 @@ public final class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getWrite().getRateLimiter().getProps().getProperty("qps"), is("50"));
         assertThat(actual.getStreamChannel().getType(), is("MEMORY"));
         assertThat(actual.getStreamChannel().getProps().getProperty("block-queue-size"), is("10000"));
+        assertThat(actual.getIncrementalCheck().getSampleRate(), is(0.1D));
+        assertThat(actual.getIncrementalCheck().getDelayMillis(), is(3000L));
     }
     
     @Test
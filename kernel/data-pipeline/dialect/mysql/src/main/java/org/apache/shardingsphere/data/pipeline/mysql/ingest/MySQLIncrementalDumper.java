@@ -36,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTable
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.PlaceholderRecordCoalescer;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -44,7 +45,8 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.Placeho
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.ConnectInfo;
-import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLBinlogSubscription;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLSharedBinlogReader;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandler;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDataTypeHandlerFactory;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
@@ -52,6 +54,8 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -69,7 +73,13 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final PipelineChannel channel;
     
-    private final MySQLClient client;
+    private final PlaceholderRecordCoalescer placeholderRecordCoalescer;
+    
+    private final ConnectInfo connectInfo;
+    
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new HashMap<>();
+    
+    private volatile MySQLBinlogSubscription subscription;
     
     private final String catalog;
     
@@ -79,25 +89,27 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
         this.dumperConfig = dumperConfig;
         this.binlogPosition = (BinlogPosition) binlogPosition;
         this.channel = channel;
+        placeholderRecordCoalescer = new PlaceholderRecordCoalescer(channel);
         this.metaDataLoader = metaDataLoader;
         YamlJdbcConfiguration jdbcConfig = ((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig()).getJdbcConfig();
         log.info("incremental dump, jdbcUrl={}", jdbcConfig.getUrl());
         DataSourceMetaData metaData = DatabaseTypeFactory.getInstance("MySQL").getDataSourceMetaData(jdbcConfig.getUrl(), null);
-        client = new MySQLClient(new ConnectInfo(new SecureRandom().nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword()));
+        connectInfo = new ConnectInfo(new SecureRandom().nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword());
         catalog = metaData.getCatalog();
     }
     
     @Override
     protected void runBlocking() {
-        client.connect();
-        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
+        subscription = MySQLSharedBinlogReader.subscribe(connectInfo, binlogPosition, dumperConfig.getBlockQueueSize());
         while (isRunning()) {
-            AbstractBinlogEvent event = client.poll();
+            AbstractBinlogEvent event = subscription.poll();
             if (null == event) {
+                placeholderRecordCoalescer.flushIfExpired();
                 continue;
             }
             handleEvent(event);
         }
+        placeholderRecordCoalescer.flush();
         channel.pushRecord(new FinishedRecord(new PlaceholderPosition()));
     }
     
@@ -125,7 +137,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     private void createPlaceholderRecord(final AbstractBinlogEvent event) {
         PlaceholderRecord record = new PlaceholderRecord(new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId()));
         record.setCommitTime(event.getTimestamp() * 1000L);
-        channel.pushRecord(record);
+        placeholderRecordCoalescer.pushRecord(record);
     }
     
     private PipelineTableMetaData getPipelineTableMetaData(final String actualTableName) {
@@ -138,9 +150,9 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
-            channel.pushRecord(record);
+            placeholderRecordCoalescer.pushRecord(record);
         }
     }
     
@@ -159,7 +171,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
                         (columnMetaData.isPrimaryKey() && updated) ? handleValue(columnMetaData, oldValue) : null,
                         handleValue(columnMetaData, newValue), updated, columnMetaData.isPrimaryKey()));
             }
-            channel.pushRecord(record);
+            placeholderRecordCoalescer.pushRecord(record);
         }
     }
     
@@ -169,28 +181,29 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
-            channel.pushRecord(record);
+            placeholderRecordCoalescer.pushRecord(record);
         }
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
-        Optional<MySQLDataTypeHandler> dataTypeHandler = MySQLDataTypeHandlerFactory.findInstance(columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), MySQLDataTypeHandlerFactory::findInstance);
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
     private DataRecord createDataRecord(final AbstractRowsEvent rowsEvent, final int columnCount) {
         DataRecord result = new DataRecord(new BinlogPosition(rowsEvent.getFileName(), rowsEvent.getPosition(), rowsEvent.getServerId()), columnCount);
         result.setTableName(dumperConfig.getLogicTableName(rowsEvent.getTableName()).getLowercase());
+        result.setActualTableName(rowsEvent.getTableName());
         result.setCommitTime(rowsEvent.getTimestamp() * 1000);
         return result;
     }
     
     @Override
     protected void doStop() {
-        if (null != client) {
-            client.closeChannel();
+        if (null != subscription) {
+            subscription.close();
         }
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.BinlogSyncChannelAlreadyClosedException;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL binlog subscription of shared binlog reader, every subscription has its own start position and buffer.
+ *
+ * <p>A subscription which can not keep up is detached from the shared reader when its buffer is full, so it does not stall other subscriptions.
+ * It resubscribes from the last buffered event once its buffer is drained.</p>
+ */
+public final class MySQLBinlogSubscription {
+    
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final ConnectInfo connectInfo;
+    
+    private final int bufferSize;
+    
+    private volatile MySQLSharedBinlogReader reader;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile BinlogPosition startPosition;
+    
+    @Getter(AccessLevel.PACKAGE)
+    private volatile BinlogPosition resumePosition;
+    
+    private volatile BlockingQueue<AbstractBinlogEvent> events;
+    
+    private volatile boolean detached;
+    
+    private volatile boolean closed;
+    
+    MySQLBinlogSubscription(final ConnectInfo connectInfo, final BinlogPosition startPosition, final int bufferSize) {
+        this.connectInfo = connectInfo;
+        this.startPosition = startPosition;
+        this.bufferSize = bufferSize;
+        resumePosition = startPosition;
+    }
+    
+    void attach(final MySQLSharedBinlogReader reader) {
+        this.reader = reader;
+        events = new ArrayBlockingQueue<>(bufferSize);
+        detached = false;
+    }
+    
+    void markDetached() {
+        detached = true;
+    }
+    
+    boolean offer(final AbstractBinlogEvent event, final BinlogPosition eventPosition, final boolean blocking) {
+        try {
+            while (!closed && reader.isRunning()) {
+                if (events.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    if (null != eventPosition) {
+                        resumePosition = eventPosition;
+                    }
+                    return true;
+                }
+                if (!blocking) {
+                    return false;
+                }
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+    
+    /**
+     * Poll binlog event.
+     *
+     * @return binlog event
+     */
+    public AbstractBinlogEvent poll() {
+        if (closed) {
+            throw new BinlogSyncChannelAlreadyClosedException();
+        }
+        if (detached) {
+            if (events.isEmpty()) {
+                startPosition = resumePosition;
+                MySQLSharedBinlogReader.attach(this);
+            }
+        } else {
+            if (null != reader.getFailure()) {
+                throw reader.getFailure();
+            }
+            if (!reader.isRunning() && events.isEmpty()) {
+                throw new BinlogSyncChannelAlreadyClosedException();
+            }
+        }
+        try {
+            return events.poll(OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Close subscription, shared reader is closed when there is no subscription.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        reader.removeSubscription(this);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * MySQL shared binlog reader, binlog events of one source are read and decoded once, then fanned out to subscriptions.
+ */
+@Slf4j
+public final class MySQLSharedBinlogReader {
+    
+    private static final Map<String, Collection<MySQLSharedBinlogReader>> READERS = new HashMap<>();
+    
+    private final String readerKey;
+    
+    private final BinlogPosition startPosition;
+    
+    private final MySQLClient client;
+    
+    private final Collection<MySQLBinlogSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    
+    private final ExecutorService executor;
+    
+    private BinlogPosition lastDispatchedPosition;
+    
+    private volatile RuntimeException failure;
+    
+    private volatile boolean running = true;
+    
+    private MySQLSharedBinlogReader(final String readerKey, final ConnectInfo connectInfo, final BinlogPosition startPosition) {
+        this.readerKey = readerKey;
+        this.startPosition = startPosition;
+        // every reader registers as a replica, a detached subscription may start another reader while the first one is still running
+        client = new MySQLClient(new ConnectInfo(new SecureRandom().nextInt(), connectInfo.getHost(), connectInfo.getPort(), connectInfo.getUsername(), connectInfo.getPassword()));
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("MySQL-binlog-reader-" + readerKey + "-%d").build());
+    }
+    
+    /**
+     * Subscribe binlog of source, the running reader of the same source is shared if it has not passed the start position.
+     *
+     * @param connectInfo connect info
+     * @param startPosition binlog position to start from
+     * @param bufferSize max buffered events of subscription, a lagging subscription whose buffer is full is detached from the shared reader
+     * @return binlog subscription
+     */
+    public static MySQLBinlogSubscription subscribe(final ConnectInfo connectInfo, final BinlogPosition startPosition, final int bufferSize) {
+        MySQLBinlogSubscription result = new MySQLBinlogSubscription(connectInfo, startPosition, bufferSize);
+        attach(result);
+        return result;
+    }
+    
+    static void attach(final MySQLBinlogSubscription subscription) {
+        ConnectInfo connectInfo = subscription.getConnectInfo();
+        String readerKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()), connectInfo.getUsername());
+        MySQLSharedBinlogReader reader;
+        synchronized (READERS) {
+            Collection<MySQLSharedBinlogReader> readers = READERS.computeIfAbsent(readerKey, key -> new CopyOnWriteArrayList<>());
+            for (MySQLSharedBinlogReader each : readers) {
+                if (each.tryAddSubscription(subscription)) {
+                    log.info("Share binlog reader, readerKey={}, startPosition={}", readerKey, subscription.getStartPosition());
+                    return;
+                }
+            }
+            reader = new MySQLSharedBinlogReader(readerKey, connectInfo, subscription.getStartPosition());
+            reader.tryAddSubscription(subscription);
+            readers.add(reader);
+        }
+        reader.start();
+    }
+    
+    private synchronized boolean tryAddSubscription(final MySQLBinlogSubscription subscription) {
+        BinlogPosition position = subscription.getStartPosition();
+        if (!running || startPosition.compareTo(position) > 0 || null != lastDispatchedPosition && lastDispatchedPosition.compareTo(position) > 0) {
+            return false;
+        }
+        subscription.attach(this);
+        subscriptions.add(subscription);
+        return true;
+    }
+    
+    private void start() {
+        try {
+            client.connect();
+            client.subscribe(startPosition.getFilename(), startPosition.getPosition());
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Start shared binlog reader failed, readerKey={}", readerKey, ex);
+            failure = ex;
+            close();
+            throw ex;
+        }
+        executor.execute(this::dispatch);
+    }
+    
+    private void dispatch() {
+        try {
+            while (running) {
+                AbstractBinlogEvent event = client.poll();
+                if (null != event) {
+                    dispatch(event);
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            if (running) {
+                log.error("Shared binlog reader failed, readerKey={}", readerKey, ex);
+                failure = ex;
+                close();
+            }
+        }
+    }
+    
+    private void dispatch(final AbstractBinlogEvent event) {
+        BinlogPosition eventPosition = null == event.getFileName() ? null : new BinlogPosition(event.getFileName(), event.getPosition(), event.getServerId());
+        synchronized (this) {
+            if (null != eventPosition) {
+                lastDispatchedPosition = eventPosition;
+            }
+        }
+        for (MySQLBinlogSubscription each : subscriptions) {
+            if (null != eventPosition && each.getStartPosition().compareTo(eventPosition) >= 0) {
+                continue;
+            }
+            // a full buffer only blocks the reader when no other subscription shares it
+            if (!each.offer(event, eventPosition, 1 == subscriptions.size())) {
+                detach(each);
+            }
+        }
+    }
+    
+    private void detach(final MySQLBinlogSubscription subscription) {
+        log.warn("Detach lagging subscription from shared binlog reader, readerKey={}, resumePosition={}", readerKey, subscription.getResumePosition());
+        subscription.markDetached();
+        removeSubscription(subscription);
+    }
+    
+    RuntimeException getFailure() {
+        return failure;
+    }
+    
+    boolean isRunning() {
+        return running;
+    }
+    
+    void removeSubscription(final MySQLBinlogSubscription subscription) {
+        synchronized (READERS) {
+            subscriptions.remove(subscription);
+            if (subscriptions.isEmpty()) {
+                close();
+            }
+        }
+    }
+    
+    private void close() {
+        synchronized (READERS) {
+            synchronized (this) {
+                if (!running) {
+                    return;
+                }
+                running = false;
+            }
+            Collection<MySQLSharedBinlogReader> readers = READERS.get(readerKey);
+            if (null != readers) {
+                readers.remove(this);
+                if (readers.isEmpty()) {
+                    READERS.remove(readerKey);
+                }
+            }
+        }
+        client.closeChannel();
+        executor.shutdown();
+        log.info("Shared binlog reader closed, readerKey={}", readerKey);
+    }
+}
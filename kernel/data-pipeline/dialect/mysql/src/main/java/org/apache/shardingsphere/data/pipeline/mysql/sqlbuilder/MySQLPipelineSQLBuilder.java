@@ -22,8 +22,10 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -89,6 +91,14 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildChunkedChecksumSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        // every value is length prefixed and NULL is encoded as N, so separators inside values can not make different rows equal
+        String columnsLiteral = columnNames.stream().map(this::quote).map(each -> String.format("IFNULL(CONCAT(CHAR_LENGTH(%s),':',%s),'N')", each, each)).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(1),BIT_XOR(CAST(CRC32(CONCAT(%s)) AS UNSIGNED)) FROM (%s) AS chunk_records",
+                quote(uniqueKey), columnsLiteral, buildChunkedQuerySQL(schemaName, tableName, uniqueKey, firstQuery)));
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
@@ -172,6 +172,16 @@ public final class MySQLIncrementalDumperTest {
         assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
     }
     
+    @Test
+    public void assertPlaceholderEventsCoalesced() {
+        invokeHandleEvent(new PlaceholderEvent());
+        invokeHandleEvent(new PlaceholderEvent());
+        invokeHandleEvent(new PlaceholderEvent());
+        List<Record> records = channel.fetchRecords(100, 0);
+        assertThat(records.size(), is(1));
+        assertThat(records.get(0), instanceOf(PlaceholderRecord.class));
+    }
+    
     @Test
     public void assertRowsEventFiltered() {
         WriteRowsEvent rowsEvent = new WriteRowsEvent();
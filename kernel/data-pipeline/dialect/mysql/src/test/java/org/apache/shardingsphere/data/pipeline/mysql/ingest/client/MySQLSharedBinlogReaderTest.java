@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.client;
+
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
+import org.junit.Test;
+import org.mockito.MockedConstruction;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class MySQLSharedBinlogReaderTest {
+    
+    private final BlockingQueue<AbstractBinlogEvent> sourceEvents = new LinkedBlockingQueue<>();
+    
+    @Test
+    public void assertSubscribeWithSharedReader() throws InterruptedException {
+        try (
+                MockedConstruction<MySQLClient> mockedClients = mockConstruction(MySQLClient.class,
+                        (mock, context) -> when(mock.poll()).thenAnswer(invocation -> sourceEvents.poll(10L, TimeUnit.MILLISECONDS)))) {
+            ConnectInfo connectInfo = new ConnectInfo(1, "host", 3306, "username", "password");
+            final MySQLBinlogSubscription first = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 10);
+            final MySQLBinlogSubscription second = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 10);
+            final MySQLBinlogSubscription later = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 200L), 10);
+            assertThat(mockedClients.constructed().size(), is(1));
+            sourceEvents.add(createEvent(100L));
+            sourceEvents.add(createEvent(300L));
+            assertThat(pollEvent(first).getPosition(), is(100L));
+            assertThat(pollEvent(first).getPosition(), is(300L));
+            assertThat(pollEvent(second).getPosition(), is(100L));
+            assertThat(pollEvent(second).getPosition(), is(300L));
+            assertThat(pollEvent(later).getPosition(), is(300L));
+            final MySQLBinlogSubscription passed = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 50L), 10);
+            assertThat(mockedClients.constructed().size(), is(2));
+            first.close();
+            second.close();
+            later.close();
+            passed.close();
+            verify(mockedClients.constructed().get(0)).closeChannel();
+            verify(mockedClients.constructed().get(1)).closeChannel();
+        }
+    }
+    
+    @Test
+    public void assertDetachLaggingSubscription() {
+        List<BlockingQueue<AbstractBinlogEvent>> clientEvents = Arrays.asList(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+        try (
+                MockedConstruction<MySQLClient> mockedClients = mockConstruction(MySQLClient.class,
+                        (mock, context) -> when(mock.poll()).thenAnswer(invocation -> clientEvents.get(context.getCount() - 1).poll(10L, TimeUnit.MILLISECONDS)))) {
+            ConnectInfo connectInfo = new ConnectInfo(1, "lagging_host", 3306, "username", "password");
+            final MySQLBinlogSubscription fast = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 10);
+            final MySQLBinlogSubscription slow = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 1);
+            clientEvents.get(1).add(createEvent(200L));
+            clientEvents.get(1).add(createEvent(300L));
+            clientEvents.get(0).add(createEvent(100L));
+            clientEvents.get(0).add(createEvent(200L));
+            clientEvents.get(0).add(createEvent(300L));
+            assertThat(pollEvent(fast).getPosition(), is(100L));
+            assertThat(pollEvent(fast).getPosition(), is(200L));
+            assertThat(pollEvent(fast).getPosition(), is(300L));
+            assertThat(mockedClients.constructed().size(), is(1));
+            assertThat(pollEvent(slow).getPosition(), is(100L));
+            assertThat(pollEvent(slow).getPosition(), is(200L));
+            assertThat(pollEvent(slow).getPosition(), is(300L));
+            assertThat(mockedClients.constructed().size(), is(2));
+            fast.close();
+            slow.close();
+            verify(mockedClients.constructed().get(0)).closeChannel();
+            verify(mockedClients.constructed().get(1)).closeChannel();
+        }
+    }
+    
+    @Test
+    public void assertSubscribeWhenReaderStartFailed() {
+        try (
+                MockedConstruction<MySQLClient> mockedClients = mockConstruction(MySQLClient.class, (mock, context) -> {
+                    if (1 == context.getCount()) {
+                        doThrow(new IllegalStateException("connect failed")).when(mock).connect();
+                    }
+                })) {
+            ConnectInfo connectInfo = new ConnectInfo(1, "failed_host", 3306, "username", "password");
+            assertThrows(IllegalStateException.class, () -> MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 10));
+            verify(mockedClients.constructed().get(0)).closeChannel();
+            MySQLBinlogSubscription actual = MySQLSharedBinlogReader.subscribe(connectInfo, new BinlogPosition("binlog.000001", 4L), 10);
+            assertThat(mockedClients.constructed().size(), is(2));
+            actual.close();
+        }
+    }
+    
+    private AbstractBinlogEvent createEvent(final long position) {
+        PlaceholderEvent result = new PlaceholderEvent();
+        result.setFileName("binlog.000001");
+        result.setPosition(position);
+        return result;
+    }
+    
+    private AbstractBinlogEvent pollEvent(final MySQLBinlogSubscription subscription) {
+        for (int i = 0; i < 100; i++) {
+            AbstractBinlogEvent result = subscription.poll();
+            if (null != result) {
+                return result;
+            }
+        }
+        return null;
+    }
+}
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,14 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    public void assertBuildChunkedChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedChecksumSQL(null, "t2", "id", Arrays.asList("id", "c1"), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(id),COUNT(1),BIT_XOR(CAST(CRC32(CONCAT(IFNULL(CONCAT(CHAR_LENGTH(id),':',id),'N'),IFNULL(CONCAT(CHAR_LENGTH(c1),':',c1),'N'))) AS UNSIGNED))"
+                + " FROM (SELECT * FROM t2 WHERE id>? ORDER BY id ASC LIMIT ?) AS chunk_records"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -19,9 +19,12 @@ package org.apache.shardingsphere.data.pipeline.opengauss.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.OpenGaussLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.opengauss.replication.LogSequenceNumber;
 
 import javax.sql.DataSource;
@@ -30,6 +33,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 /**
  * OpenGauss WAL position initializer.
@@ -42,12 +48,30 @@ public final class OpenGaussPositionInitializer implements PositionInitializer {
     
     private static final String DECODE_PLUGIN = "mppdb_decoding";
     
+    private static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
+        return init(dataSource, slotNameSuffix, DECODE_PLUGIN, Collections.emptyList());
+    }
+    
+    @Override
+    public WALPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
+        String decodingPlugin = null == dumperConfig.getDecodingPlugin() ? DECODE_PLUGIN : dumperConfig.getDecodingPlugin();
+        ShardingSpherePreconditions.checkState(DECODE_PLUGIN.equals(decodingPlugin) || PGOUTPUT_DECODE_PLUGIN.equals(decodingPlugin),
+                () -> new UnsupportedSQLOperationException(String.format("Decoding plugin `%s` of openGauss", decodingPlugin)));
+        return init(dataSource, dumperConfig.getJobId(), decodingPlugin, getQualifiedTableNames(dumperConfig));
+    }
+    
+    private WALPosition init(final DataSource dataSource, final String slotNameSuffix, final String decodingPlugin, final Collection<String> qualifiedTableNames) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, slotNameSuffix);
+            String slotName = getUniqueSlotName(connection, slotNameSuffix);
+            if (PGOUTPUT_DECODE_PLUGIN.equals(decodingPlugin)) {
+                createPublicationIfNotExist(connection, slotName, qualifiedTableNames);
+            }
+            createSlotIfNotExist(connection, slotName, decodingPlugin);
             return getWalPosition(connection);
         }
     }
@@ -57,32 +81,68 @@ public final class OpenGaussPositionInitializer implements PositionInitializer {
         return new WALPosition(new OpenGaussLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
+    private Collection<String> getQualifiedTableNames(final DumperConfiguration dumperConfig) {
+        return dumperConfig.getTableNameMap().keySet().stream().map(each -> {
+            String schemaName = dumperConfig.getSchemaName(each);
+            return null == schemaName ? quote(each.getOriginal()) : String.join(".", quote(schemaName), quote(each.getOriginal()));
+        }).collect(Collectors.toList());
+    }
+    
+    private String quote(final String identifier) {
+        return String.format("\"%s\"", identifier);
+    }
+    
+    private void createPublicationIfNotExist(final Connection connection, final String publicationName, final Collection<String> qualifiedTableNames) throws SQLException {
+        if (isPublicationExist(connection, publicationName)) {
+            return;
+        }
+        String sql = String.format("CREATE PUBLICATION %s FOR TABLE %s", publicationName, String.join(",", qualifiedTableNames));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.execute();
+        } catch (final SQLException ex) {
+            if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                throw ex;
+            }
+        }
+    }
+    
+    private boolean isPublicationExist(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     /**
      * Create logical replication slot if it does not exist.
      *
      * @param connection connection
+     * @param slotName slot name
+     * @param decodingPlugin decoding plugin
      * @throws SQLException SQL exception
      */
-    private void createSlotIfNotExist(final Connection connection, final String slotNameSuffix) throws SQLException {
-        String slotName = getUniqueSlotName(connection, slotNameSuffix);
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
         if (!isSlotExist(connection, slotName)) {
-            createSlotBySQL(connection, slotName);
+            createSlotBySQL(connection, slotName, decodingPlugin);
         }
     }
     
     private boolean isSlotExist(final Connection connection, final String slotName) throws SQLException {
-        String sql = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        String sql = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?, ?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.setString(1, slotName);
             preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(3, PGOUTPUT_DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
         }
     }
     
-    private void createSlotBySQL(final Connection connection, final String slotName) throws SQLException {
-        String sql = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+    private void createSlotBySQL(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
+        String sql = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -114,10 +174,16 @@ public final class OpenGaussPositionInitializer implements PositionInitializer {
             log.info("dropSlotIfExist, slot not exist, ignore, slotName={}", slotName);
             return;
         }
+        boolean pgOutputSlot = isPgOutputSlot(connection, slotName);
         String sql = String.format("select * from pg_drop_replication_slot('%s')", slotName);
         try (CallableStatement callableStatement = connection.prepareCall(sql)) {
             callableStatement.execute();
         }
+        if (pgOutputSlot) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", slotName))) {
+                preparedStatement.execute();
+            }
+        }
     }
     
     /**
@@ -134,6 +200,25 @@ public final class OpenGaussPositionInitializer implements PositionInitializer {
         return String.format("%s_%s", SLOT_NAME_PREFIX, slotName);
     }
     
+    /**
+     * Whether the slot is created with pgoutput decoding plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return slot is created with pgoutput or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isPgOutputSlot(final Connection connection, final String slotName) throws SQLException {
+        String sql = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, slotName);
+            preparedStatement.setString(2, PGOUTPUT_DECODE_PLUGIN);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.opengauss.ingest.wal.decode.OpenG
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
@@ -82,8 +83,16 @@ public final class OpenGaussWALDumper extends AbstractLifecycleExecutor implemen
     protected void runBlocking() {
         PGReplicationStream stream = null;
         try (PgConnection connection = getReplicationConnectionUnwrap()) {
-            stream = logicalReplication.createReplicationStream(connection, walPosition.getLogSequenceNumber(), OpenGaussPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()));
-            DecodingPlugin decodingPlugin = new MppdbDecodingPlugin(new OpenGaussTimestampUtils(connection.getTimestampUtils()), decodeWithTX);
+            String slotName = OpenGaussPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            OpenGaussTimestampUtils utils = new OpenGaussTimestampUtils(connection.getTimestampUtils());
+            DecodingPlugin decodingPlugin;
+            if (OpenGaussPositionInitializer.isPgOutputSlot(connection, slotName)) {
+                stream = logicalReplication.createPgOutputReplicationStream(connection, walPosition.getLogSequenceNumber(), slotName);
+                decodingPlugin = new PgOutputDecodingPlugin(utils);
+            } else {
+                stream = logicalReplication.createReplicationStream(connection, walPosition.getLogSequenceNumber(), slotName);
+                decodingPlugin = new MppdbDecodingPlugin(utils, decodeWithTX);
+            }
             while (isRunning()) {
                 ByteBuffer message = stream.readPending();
                 if (null == message) {
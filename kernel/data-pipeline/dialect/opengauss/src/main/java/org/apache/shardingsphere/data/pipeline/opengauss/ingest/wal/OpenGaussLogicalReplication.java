@@ -100,4 +100,24 @@ public final class OpenGaussLogicalReplication {
                 .withStartPosition((LogSequenceNumber) startPosition.get())
                 .start();
     }
+    
+    /**
+     * Create OpenGauss replication stream of pgoutput decoding plugin, the publication has the same name as the slot.
+     *
+     * @param connection connection
+     * @param startPosition start position
+     * @param slotName slot name
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final PgConnection connection, final BaseLogSequenceNumber startPosition, final String slotName) throws SQLException {
+        return connection.getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", 1)
+                .withSlotOption("publication_names", slotName)
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .start();
+    }
 }
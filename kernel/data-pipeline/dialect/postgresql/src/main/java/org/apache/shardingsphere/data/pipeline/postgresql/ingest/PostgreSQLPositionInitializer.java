@@ -19,9 +19,12 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.postgresql.replication.LogSequenceNumber;
 
 import javax.sql.DataSource;
@@ -29,6 +32,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL WAL position initializer.
@@ -40,12 +46,30 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private static final String DECODE_PLUGIN = "test_decoding";
     
+    private static final String PGOUTPUT_DECODE_PLUGIN = "pgoutput";
+    
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
+        return init(dataSource, slotNameSuffix, DECODE_PLUGIN, Collections.emptyList());
+    }
+    
+    @Override
+    public WALPosition init(final DataSource dataSource, final DumperConfiguration dumperConfig) throws SQLException {
+        String decodingPlugin = null == dumperConfig.getDecodingPlugin() ? DECODE_PLUGIN : dumperConfig.getDecodingPlugin();
+        ShardingSpherePreconditions.checkState(DECODE_PLUGIN.equals(decodingPlugin) || PGOUTPUT_DECODE_PLUGIN.equals(decodingPlugin),
+                () -> new UnsupportedSQLOperationException(String.format("Decoding plugin `%s` of PostgreSQL", decodingPlugin)));
+        return init(dataSource, dumperConfig.getJobId(), decodingPlugin, getQualifiedTableNames(dumperConfig));
+    }
+    
+    private WALPosition init(final DataSource dataSource, final String slotNameSuffix, final String decodingPlugin, final Collection<String> qualifiedTableNames) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix));
+            String slotName = getUniqueSlotName(connection, slotNameSuffix);
+            if (PGOUTPUT_DECODE_PLUGIN.equals(decodingPlugin)) {
+                createPublicationIfNotExist(connection, slotName, qualifiedTableNames);
+            }
+            createSlotIfNotExist(connection, slotName, decodingPlugin);
             return getWalPosition(connection);
         }
     }
@@ -55,12 +79,47 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
+    private Collection<String> getQualifiedTableNames(final DumperConfiguration dumperConfig) {
+        return dumperConfig.getTableNameMap().keySet().stream().map(each -> {
+            String schemaName = dumperConfig.getSchemaName(each);
+            return null == schemaName ? quote(each.getOriginal()) : String.join(".", quote(schemaName), quote(each.getOriginal()));
+        }).collect(Collectors.toList());
+    }
+    
+    private String quote(final String identifier) {
+        return String.format("\"%s\"", identifier);
+    }
+    
+    private void createPublicationIfNotExist(final Connection connection, final String publicationName, final Collection<String> qualifiedTableNames) throws SQLException {
+        if (isPublicationExisting(connection, publicationName)) {
+            log.info("createPublicationIfNotExist, publication exist, publicationName={}", publicationName);
+            return;
+        }
+        String createPublicationSQL = String.format("CREATE PUBLICATION %s FOR TABLE %s", publicationName, String.join(",", qualifiedTableNames));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createPublicationSQL)) {
+            preparedStatement.execute();
+        } catch (final SQLException ex) {
+            if (!DUPLICATE_OBJECT_ERROR_CODE.equals(ex.getSQLState())) {
+                throw ex;
+            }
+        }
+    }
+    
+    private boolean isPublicationExisting(final Connection connection, final String publicationName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final String decodingPlugin) throws SQLException {
         if (isSlotExisting(connection, slotName)) {
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -71,10 +130,11 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     }
     
     private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?,?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
             preparedStatement.setString(1, slotName);
             preparedStatement.setString(2, DECODE_PLUGIN);
+            preparedStatement.setString(3, PGOUTPUT_DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 return resultSet.next();
             }
@@ -114,11 +174,17 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             return;
         }
         log.info("dropSlotIfExist, slot exist, slotName={}", slotName);
+        boolean pgOutputSlot = isPgOutputSlot(connection, slotName);
         String dropSlotSQL = "SELECT pg_drop_replication_slot(?)";
         try (PreparedStatement preparedStatement = connection.prepareStatement(dropSlotSQL)) {
             preparedStatement.setString(1, slotName);
             preparedStatement.execute();
         }
+        if (pgOutputSlot) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", slotName))) {
+                preparedStatement.execute();
+            }
+        }
     }
     
     /**
@@ -135,6 +201,25 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return String.format("%s_%s", SLOT_NAME_PREFIX, slotName);
     }
     
+    /**
+     * Whether the slot is created with pgoutput decoding plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return slot is created with pgoutput or not
+     * @throws SQLException SQL exception
+     */
+    public static boolean isPgOutputSlot(final Connection connection, final String slotName) throws SQLException {
+        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
+            preparedStatement.setString(1, slotName);
+            preparedStatement.setString(2, PGOUTPUT_DECODE_PLUGIN);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
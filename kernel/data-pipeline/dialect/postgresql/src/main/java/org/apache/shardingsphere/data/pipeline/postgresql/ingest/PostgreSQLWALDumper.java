@@ -24,12 +24,14 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChanne
 import org.apache.shardingsphere.data.pipeline.api.ingest.dumper.IncrementalDumper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.core.ingest.channel.PlaceholderRecordCoalescer;
 import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLLogicalReplication;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -52,7 +54,7 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     
     private final WALPosition walPosition;
     
-    private final PipelineChannel channel;
+    private final PlaceholderRecordCoalescer placeholderRecordCoalescer;
     
     private final WALEventConverter walEventConverter;
     
@@ -64,7 +66,7 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
                 () -> new UnsupportedSQLOperationException("PostgreSQLWALDumper only support PipelineDataSourceConfiguration"));
         this.dumperConfig = dumperConfig;
         walPosition = (WALPosition) position;
-        this.channel = channel;
+        placeholderRecordCoalescer = new PlaceholderRecordCoalescer(channel);
         walEventConverter = new WALEventConverter(dumperConfig, metaDataLoader);
         logicalReplication = new PostgreSQLLogicalReplication();
     }
@@ -72,26 +74,36 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     @Override
     protected void runBlocking() {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            boolean pgOutputSlot = PostgreSQLPositionInitializer.isPgOutputSlot(connection, slotName);
             PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
+            DecodingPlugin decodingPlugin = pgOutputSlot ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+            try (
+                    PGReplicationStream stream = pgOutputSlot
+                            ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())
+                            : logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber())) {
+                dump(stream, decodingPlugin);
             }
         } catch (final SQLException ex) {
             throw new IngestException(ex);
         }
     }
     
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                placeholderRecordCoalescer.flushIfExpired();
+                ThreadUtil.sleep(10L);
+                continue;
+            }
+            AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            placeholderRecordCoalescer.pushRecord(walEventConverter.convert(event));
+        }
+        placeholderRecordCoalescer.flush();
+    }
+    
     @Override
     protected void doStop() {
     }
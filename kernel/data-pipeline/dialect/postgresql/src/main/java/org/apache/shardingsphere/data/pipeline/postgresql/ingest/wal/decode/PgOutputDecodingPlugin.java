@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.postgresql.util.PGbytea;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pgoutput decoding plugin, decode messages of logical replication protocol version 1.
+ *
+ * <p>It is used when the replication slot of the job is created with pgoutput, together with a publication of the same name,
+ * see {@code DECODING_PLUGIN} of the migration rule read configuration.</p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private static final byte REPLICA_IDENTITY_FLAG = 1;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result = readEvent(data);
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private AbstractWALEvent readEvent(final ByteBuffer data) {
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                return readBeginEvent(data);
+            case 'C':
+                return new CommitTXEvent(currentXid, null);
+            case 'R':
+                readRelation(data);
+                return new PlaceholderEvent();
+            case 'I':
+                return readWriteRowEvent(data);
+            case 'U':
+                return readUpdateRowEvent(data);
+            case 'D':
+                return readDeleteRowEvent(data);
+            default:
+                return new PlaceholderEvent();
+        }
+    }
+    
+    private BeginTXEvent readBeginEvent(final ByteBuffer data) {
+        // skip final LSN and commit timestamp
+        data.position(data.position() + 16);
+        // openGauss sends 64 bits transaction id
+        currentXid = data.remaining() >= Long.BYTES ? data.getLong() : Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid);
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        // skip replica identity setting
+        data.get();
+        int columnCount = data.getShort();
+        int[] columnTypes = new int[columnCount];
+        boolean[] replicaIdentityColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            replicaIdentityColumns[i] = REPLICA_IDENTITY_FLAG == (data.get() & REPLICA_IDENTITY_FLAG);
+            readString(data);
+            columnTypes[i] = data.getInt();
+            // skip type modifier
+            data.getInt();
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columnTypes, replicaIdentityColumns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        // skip new tuple flag 'N'
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        return initRowEvent(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        if ('K' == tupleType || 'O' == tupleType) {
+            readTupleData(data, relation);
+            // skip new tuple flag 'N'
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation));
+        return initRowEvent(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        // skip old tuple flag 'K' or 'O'
+        data.get();
+        List<Object> oldTuple = readTupleData(data, relation);
+        List<Object> primaryKeys = new ArrayList<>(oldTuple.size());
+        for (int i = 0; i < oldTuple.size(); i++) {
+            if (relation.getReplicaIdentityColumns()[i]) {
+                primaryKeys.add(oldTuple.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        return initRowEvent(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent initRowEvent(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char columnKind = (char) data.get();
+            switch (columnKind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    result.add(UnchangedToastValue.INSTANCE);
+                    break;
+                case 't':
+                    byte[] value = new byte[data.getInt()];
+                    data.get(value);
+                    result.add(readColumnData(new String(value, StandardCharsets.UTF_8), relation.getColumnTypes()[i]));
+                    break;
+                default:
+                    throw new IngestException("Unsupported tuple column kind: " + columnKind);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnData(final String value, final int columnType) {
+        switch (columnType) {
+            case BOOL_OID:
+                return "t".equals(value);
+            case INT2_OID:
+                return Short.parseShort(value);
+            case INT4_OID:
+                return Integer.parseInt(value);
+            case INT8_OID:
+                return Long.parseLong(value);
+            case FLOAT4_OID:
+                return Float.parseFloat(value);
+            case FLOAT8_OID:
+                return Double.parseDouble(value);
+            case NUMERIC_OID:
+                return new BigDecimal(value);
+            case DATE_OID:
+                return Date.valueOf(value);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, value);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                try {
+                    return PGbytea.toBytes(value.getBytes(StandardCharsets.US_ASCII));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return value;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        byte[] result = new byte[end - data.position()];
+        data.get(result);
+        // skip string terminator
+        data.get();
+        return new String(result, StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final int[] columnTypes;
+        
+        private final boolean[] replicaIdentityColumns;
+    }
+}
@@ -23,8 +23,10 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * PostgreSQL pipeline SQL builder.
@@ -85,6 +87,14 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildChunkedChecksumSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        String quotedUniqueKey = quote(uniqueKey);
+        String columnsLiteral = columnNames.stream().map(this::quote).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(1),MD5(STRING_AGG(MD5(CAST(ROW(%s) AS TEXT)),'' ORDER BY %s)) FROM (%s) AS chunk_records",
+                quotedUniqueKey, columnsLiteral, quotedUniqueKey, buildChunkedQuerySQL(schemaName, tableName, uniqueKey, firstQuery)));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -18,7 +18,12 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.config.TableNameSchemaNameMapping;
+import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.LogicTableName;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,6 +37,7 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -85,6 +91,38 @@ public final class PostgreSQLPositionInitializerTest {
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
     }
     
+    @Test
+    public void assertInitWithPgOutputDecodingPlugin() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        PreparedStatement checkPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(checkPublicationPreparedStatement);
+        when(checkPublicationPreparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "");
+        PreparedStatement createPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION %s FOR TABLE \"public\".\"t_order\"", slotName))).thenReturn(createPublicationPreparedStatement);
+        PreparedStatement createSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, "pgoutput"))).thenReturn(createSlotPreparedStatement);
+        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("pgoutput"));
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPreparedStatement).execute();
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertInitWithUnsupportedDecodingPlugin() throws SQLException {
+        new PostgreSQLPositionInitializer().init(dataSource, createDumperConfiguration("wal2json"));
+    }
+    
+    private DumperConfiguration createDumperConfiguration(final String decodingPlugin) {
+        DumperConfiguration result = new DumperConfiguration();
+        result.setJobId("");
+        result.setTableNameMap(Collections.singletonMap(new ActualTableName("t_order"), new LogicTableName("t_order")));
+        result.setTableNameSchemaNameMapping(new TableNameSchemaNameMapping(Collections.singletonMap(new LogicTableName("t_order"), "public")));
+        result.setDecodingPlugin(decodingPlugin);
+        return result;
+    }
+    
     @Test(expected = RuntimeException.class)
     public void assertGetCurrentPositionThrowException() throws SQLException {
         mockSlotExistsOrNot(false);
@@ -116,7 +154,7 @@ public final class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin IN (?,?)")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
@@ -127,7 +165,30 @@ public final class PostgreSQLPositionInitializerTest {
         mockSlotExistsOrNot(true);
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
         when(connection.prepareStatement("SELECT pg_drop_replication_slot(?)")).thenReturn(preparedStatement);
+        mockPgOutputSlotOrNot(false);
         new PostgreSQLPositionInitializer().destroy(dataSource, "");
         verify(preparedStatement).execute();
     }
+    
+    @Test
+    public void assertDestroyWhenPgOutputSlotExists() throws SQLException {
+        mockSlotExistsOrNot(true);
+        PreparedStatement dropSlotPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pg_drop_replication_slot(?)")).thenReturn(dropSlotPreparedStatement);
+        mockPgOutputSlotOrNot(true);
+        PreparedStatement dropPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", PostgreSQLPositionInitializer.getUniqueSlotName(connection, "")))).thenReturn(dropPublicationPreparedStatement);
+        new PostgreSQLPositionInitializer().destroy(dataSource, "");
+        verify(dropSlotPreparedStatement).execute();
+        verify(dropPublicationPreparedStatement).execute();
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockPgOutputSlotOrNot(final boolean pgOutput) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(pgOutput);
+    }
 }
@@ -36,6 +36,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.Begin
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastValue;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -54,6 +55,8 @@ import java.util.Collections;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public final class WALEventConverterTest {
@@ -128,6 +131,16 @@ public final class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(IngestDataChangeType.UPDATE));
     }
     
+    @Test
+    public void assertConvertUpdateRowEventWithUnchangedToastValue() {
+        UpdateRowEvent event = (UpdateRowEvent) mockUpdateRowEvent();
+        event.setAfterRow(Arrays.asList(1, UnchangedToastValue.INSTANCE));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertTrue(actual.getColumn(0).isUpdated());
+        assertFalse(actual.getColumn(1).isUpdated());
+        assertNull(actual.getColumn(1).getValue());
+    }
+    
     @Test
     public void assertConvertDeleteRowEvent() {
         Record record = walEventConverter.convert(mockDeleteRowEvent());
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UnchangedToastValue;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private final PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+    
+    @Test
+    public void assertDecodeRelationMessage() throws IOException {
+        assertThat(decodingPlugin.decode(createRelationMessage(), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    @Test
+    public void assertDecodeBeginAndCommitMessage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('B');
+        output.writeLong(100L);
+        output.writeLong(0L);
+        output.writeInt(-1);
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(4294967295L));
+        assertThat(actualBegin.getLogSequenceNumber(), is(logSequenceNumber));
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(ByteBuffer.wrap(new byte[]{'C', 0}), logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(4294967295L));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() throws IOException {
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('I');
+        output.writeInt(16386);
+        output.writeByte('N');
+        writeTupleData(output, "1", "1 2 3'", "t", null, "\\xff00ab", "12.50");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(1));
+        assertThat(actual.getAfterRow().get(1), is("1 2 3'"));
+        assertThat(actual.getAfterRow().get(2), is(true));
+        assertNull(actual.getAfterRow().get(3));
+        assertThat(actual.getAfterRow().get(4), is(new byte[]{(byte) 0xff, (byte) 0, (byte) 0xab}));
+        assertThat(actual.getAfterRow().get(5), is(new BigDecimal("12.50")));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValue() throws IOException {
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('U');
+        output.writeInt(16386);
+        output.writeByte('O');
+        writeTupleData(output, "1", "old", "f", null, "\\x00", "1");
+        output.writeByte('N');
+        output.writeShort(6);
+        writeTextColumn(output, "1");
+        output.writeByte('u');
+        writeTextColumn(output, "f");
+        output.writeByte('n');
+        writeTextColumn(output, "\\x00");
+        writeTextColumn(output, "2");
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(1), is(UnchangedToastValue.INSTANCE));
+        assertThat(actual.getAfterRow().get(5), is(new BigDecimal("2")));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastValueWithoutOldTuple() throws IOException {
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('U');
+        output.writeInt(16386);
+        output.writeByte('N');
+        output.writeShort(1);
+        output.writeByte('u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getAfterRow().get(0), is(UnchangedToastValue.INSTANCE));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() throws IOException {
+        decodingPlugin.decode(createRelationMessage(), logSequenceNumber);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('D');
+        output.writeInt(16386);
+        output.writeByte('K');
+        writeTupleData(output, "1", null, null, null, null, null);
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys().size(), is(1));
+        assertThat(actual.getPrimaryKeys().get(0), is(1));
+    }
+    
+    @Test
+    public void assertDecodeRowEventWithUnknownRelation() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('I');
+        output.writeInt(1);
+        output.writeByte('N');
+        writeTupleData(output, "1");
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(ByteBuffer.wrap(bytes.toByteArray()), logSequenceNumber));
+    }
+    
+    @Test
+    public void assertDecodeUnsupportedMessage() {
+        assertThat(decodingPlugin.decode(ByteBuffer.wrap(new byte[]{'Y'}), logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private ByteBuffer createRelationMessage() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.writeByte('R');
+        output.writeInt(16386);
+        writeString(output, "public");
+        writeString(output, "t_order");
+        output.writeByte('d');
+        output.writeShort(6);
+        writeColumn(output, 1, "order_id", 23);
+        writeColumn(output, 0, "status", 1043);
+        writeColumn(output, 0, "enabled", 16);
+        writeColumn(output, 0, "remark", 25);
+        writeColumn(output, 0, "content", 17);
+        writeColumn(output, 0, "price", 1700);
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+    
+    private void writeColumn(final DataOutputStream output, final int flags, final String name, final int typeOid) throws IOException {
+        output.writeByte(flags);
+        writeString(output, name);
+        output.writeInt(typeOid);
+        output.writeInt(-1);
+    }
+    
+    private void writeString(final DataOutputStream output, final String value) throws IOException {
+        output.write(value.getBytes(StandardCharsets.UTF_8));
+        output.writeByte(0);
+    }
+    
+    private void writeTupleData(final DataOutputStream output, final String... values) throws IOException {
+        output.writeShort(values.length);
+        for (String each : values) {
+            if (null == each) {
+                output.writeByte('n');
+            } else {
+                writeTextColumn(output, each);
+            }
+        }
+    }
+    
+    private void writeTextColumn(final DataOutputStream output, final String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeByte('t');
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
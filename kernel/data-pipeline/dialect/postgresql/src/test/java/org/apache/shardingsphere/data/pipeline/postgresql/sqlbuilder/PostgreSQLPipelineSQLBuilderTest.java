@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.Post
 import org.junit.Test;
 import org.postgresql.replication.LogSequenceNumber;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -41,6 +42,14 @@ public final class PostgreSQLPipelineSQLBuilderTest {
                 + " DO UPDATE SET user_id=EXCLUDED.user_id,status=EXCLUDED.status"));
     }
     
+    @Test
+    public void assertBuildChunkedChecksumSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedChecksumSQL("schema1", "t_order", "order_id", Arrays.asList("order_id", "status"), true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(order_id),COUNT(1),MD5(STRING_AGG(MD5(CAST(ROW(order_id,status) AS TEXT)),'' ORDER BY order_id))"
+                + " FROM (SELECT * FROM schema1.t_order ORDER BY order_id ASC LIMIT ?) AS chunk_records"));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L))), 2);
         result.setTableName("t_order");
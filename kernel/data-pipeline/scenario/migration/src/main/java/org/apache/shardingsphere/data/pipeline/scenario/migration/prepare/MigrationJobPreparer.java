@@ -21,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.CreateTableConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
@@ -28,6 +29,7 @@ import org.apache.shardingsphere.data.pipeline.api.job.progress.InventoryIncreme
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobItemIncrementalTasksProgress;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.IncrementalDataConsistencyChecker;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.ExecuteEngine;
@@ -167,10 +169,21 @@ public final class MigrationJobPreparer {
         PipelineTableMetaDataLoader sourceMetaDataLoader = jobItemContext.getSourceMetaDataLoader();
         ExecuteEngine incrementalExecuteEngine = jobItemContext.getJobProcessContext().getIncrementalExecuteEngine();
         IncrementalTask incrementalTask = new IncrementalTask(taskConfig.getImporterConfig().getConcurrency(), taskConfig.getDumperConfig(), taskConfig.getImporterConfig(),
-                pipelineChannelCreator, jobItemContext.getImporterConnector(), sourceMetaDataLoader, incrementalExecuteEngine, jobItemContext);
+                pipelineChannelCreator, jobItemContext.getImporterConnector(), sourceMetaDataLoader, incrementalExecuteEngine, jobItemContext, createIncrementalChecker(jobItemContext));
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
     
+    private IncrementalDataConsistencyChecker createIncrementalChecker(final MigrationJobItemContext jobItemContext) {
+        PipelineIncrementalCheckConfiguration checkConfig = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getIncrementalCheck();
+        if (null == checkConfig) {
+            return null;
+        }
+        MigrationTaskConfiguration taskConfig = jobItemContext.getTaskConfig();
+        PipelineDataSourceWrapper targetDataSource = jobItemContext.getDataSourceManager().getDataSource(taskConfig.getImporterConfig().getDataSourceConfig());
+        return new IncrementalDataConsistencyChecker(
+                jobItemContext.getJobId(), jobItemContext.getSourceDataSource(), targetDataSource, taskConfig.getDumperConfig(), taskConfig.getImporterConfig(), checkConfig);
+    }
+    
     /**
      * Do cleanup work.
      *
@@ -22,7 +22,6 @@ import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
 
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * Memory enumerator.
@@ -33,7 +32,7 @@ public final class MemoryEnumerator implements Enumerator<Object[]> {
     
     private Iterator<ShardingSphereRowData> rowDataIterator;
     
-    private List<Object> current;
+    private Object[] current;
     
     public MemoryEnumerator(final Collection<ShardingSphereRowData> rows) {
         this.rows = rows;
@@ -42,13 +41,13 @@ public final class MemoryEnumerator implements Enumerator<Object[]> {
     
     @Override
     public Object[] current() {
-        return current.toArray();
+        return current;
     }
     
     @Override
     public boolean moveNext() {
         if (rowDataIterator.hasNext()) {
-            current = rowDataIterator.next().getRows();
+            current = rowDataIterator.next().getRows().toArray();
             return true;
         }
         current = null;
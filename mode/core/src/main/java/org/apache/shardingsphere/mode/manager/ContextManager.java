@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.mode.manager;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
@@ -68,6 +69,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -83,12 +85,24 @@ public final class ContextManager implements AutoCloseable {
     
     private final ExecutorEngine executorEngine;
     
+    @Getter(AccessLevel.NONE)
+    private final Collection<AutoCloseable> closeableResources = new CopyOnWriteArrayList<>();
+    
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
         executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
     }
     
+    /**
+     * Register closeable resource, which will be closed before meta data contexts closed.
+     *
+     * @param closeableResource closeable resource
+     */
+    public void registerCloseableResource(final AutoCloseable closeableResource) {
+        closeableResources.add(closeableResource);
+    }
+    
     /**
      * Renew meta data contexts.
      *
@@ -727,6 +741,15 @@ public final class ContextManager implements AutoCloseable {
     
     @Override
     public void close() {
+        for (AutoCloseable each : closeableResources) {
+            try {
+                each.close();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Close resource: {} failed", each.getClass().getName(), ex);
+            }
+        }
         executorEngine.close();
         metaDataContexts.close();
     }
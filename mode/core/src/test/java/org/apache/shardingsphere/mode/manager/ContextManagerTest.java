@@ -367,4 +367,13 @@ public final class ContextManagerTest {
         contextManager.close();
         verify(metaDataContexts).close();
     }
+    
+    @Test
+    public void assertCloseWithRegisteredCloseableResource() throws Exception {
+        AutoCloseable closeableResource = mock(AutoCloseable.class);
+        contextManager.registerCloseableResource(closeableResource);
+        contextManager.close();
+        verify(closeableResource).close();
+        verify(metaDataContexts).close();
+    }
 }
@@ -31,11 +31,14 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber.Con
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.mode.metadata.MetaDataContextsFactory;
 import org.apache.shardingsphere.mode.metadata.persist.MetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryFactory;
+import org.apache.shardingsphere.mode.repository.cluster.cache.CachedClusterPersistRepository;
 
 import java.sql.SQLException;
+import java.util.Collections;
 
 /**
  * Cluster context manager builder.
@@ -44,7 +47,7 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
     
     @Override
     public ContextManager build(final ContextManagerBuilderParameter param) throws SQLException {
-        ClusterPersistRepository repository = ClusterPersistRepositoryFactory.getInstance((ClusterPersistRepositoryConfiguration) param.getModeConfiguration().getRepository());
+        ClusterPersistRepository repository = createRepository((ClusterPersistRepositoryConfiguration) param.getModeConfiguration().getRepository());
         MetaDataPersistService persistService = new MetaDataPersistService(repository);
         persistConfigurations(persistService, param);
         RegistryCenter registryCenter = new RegistryCenter(repository, new EventBusContext(), param.getInstanceMetaData(), param.getDatabaseConfigs());
@@ -55,10 +58,16 @@ public final class ClusterContextManagerBuilder implements ContextManagerBuilder
         MetaDataContexts metaDataContexts = MetaDataContextsFactory.create(persistService, param, instanceContext, registryCenter.getStorageNodeStatusService().loadStorageNodes());
         persistMetaData(metaDataContexts);
         ContextManager result = new ContextManager(metaDataContexts, instanceContext);
+        result.registerCloseableResource(registryCenter);
         registerOnline(persistService, registryCenter, param, result);
         return result;
     }
     
+    private ClusterPersistRepository createRepository(final ClusterPersistRepositoryConfiguration config) {
+        ClusterPersistRepository result = ClusterPersistRepositoryFactory.getInstance(config);
+        return result.isCacheable() ? new CachedClusterPersistRepository(result, Collections.singleton(DatabaseMetaDataNode.getMetaDataNodePath())) : result;
+    }
+    
     private void persistConfigurations(final MetaDataPersistService persistService, final ContextManagerBuilderParameter param) {
         if (!param.isEmpty()) {
             persistService.persistConfigurations(param.getDatabaseConfigs(), param.getGlobalRuleConfigs(), param.getProps());
@@ -42,7 +42,7 @@ import java.util.Properties;
 /**
  * Registry center.
  */
-public final class RegistryCenter {
+public final class RegistryCenter implements AutoCloseable {
     
     @Getter
     private final ClusterPersistRepository repository;
@@ -65,6 +65,8 @@ public final class RegistryCenter {
     
     private final GovernanceWatcherFactory listenerFactory;
     
+    private final ShardingSphereSchemaDataRegistrySubscriber schemaDataRegistrySubscriber;
+    
     public RegistryCenter(final ClusterPersistRepository repository, final EventBusContext eventBusContext,
                           final InstanceMetaData instanceMetaData, final Map<String, DatabaseConfiguration> databaseConfigs) {
         this.repository = repository;
@@ -76,6 +78,7 @@ public final class RegistryCenter {
         globalLockPersistService = new GlobalLockPersistService(initDistributedLockHolder(repository));
         listenerFactory = new GovernanceWatcherFactory(repository, eventBusContext, getJDBCDatabaseName());
         createSubscribers(repository);
+        schemaDataRegistrySubscriber = new ShardingSphereSchemaDataRegistrySubscriber(repository, globalLockPersistService, eventBusContext);
     }
     
     private DistributedLockHolder initDistributedLockHolder(final ClusterPersistRepository repository) {
@@ -92,7 +95,6 @@ public final class RegistryCenter {
         new ComputeNodeStatusSubscriber(this, repository);
         new StorageNodeStatusSubscriber(repository, eventBusContext);
         new ProcessRegistrySubscriber(repository, eventBusContext);
-        new ShardingSphereSchemaDataRegistrySubscriber(repository, globalLockPersistService, eventBusContext);
     }
     
     /**
@@ -106,4 +108,9 @@ public final class RegistryCenter {
         computeNodeStatusService.persistInstanceState(computeNodeInstance.getCurrentInstanceId(), computeNodeInstance.getState());
         listenerFactory.watchListeners();
     }
+    
+    @Override
+    public void close() {
+        schemaDataRegistrySubscriber.close();
+    }
 }
@@ -20,23 +20,36 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.meta
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.metadata.data.event.ShardingSphereSchemaDataAlteredEvent;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.data.pojo.YamlShardingSphereRowData;
 import org.apache.shardingsphere.mode.lock.GlobalLockDefinition;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.lock.GlobalLockPersistService;
 import org.apache.shardingsphere.mode.metadata.persist.data.ShardingSphereDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.node.ShardingSphereDataNode;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.batch.ClusterPersistRepositoryBatchWriter;
+
+import java.util.Collection;
 
 /**
  * ShardingSphere schema data registry subscriber.
  */
 @SuppressWarnings("UnstableApiUsage")
-public final class ShardingSphereSchemaDataRegistrySubscriber {
+public final class ShardingSphereSchemaDataRegistrySubscriber implements AutoCloseable {
+    
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+    
+    private static final int MAX_PENDING_SIZE = 1024;
     
     private final ShardingSphereDataPersistService persistService;
     
+    private final ClusterPersistRepositoryBatchWriter batchWriter;
+    
     private final GlobalLockPersistService lockPersistService;
     
     public ShardingSphereSchemaDataRegistrySubscriber(final ClusterPersistRepository repository, final GlobalLockPersistService globalLockPersistService, final EventBusContext eventBusContext) {
         persistService = new ShardingSphereDataPersistService(repository);
+        batchWriter = new ClusterPersistRepositoryBatchWriter(repository, FLUSH_INTERVAL_MILLIS, MAX_PENDING_SIZE);
         lockPersistService = globalLockPersistService;
         eventBusContext.register(this);
     }
@@ -53,12 +66,30 @@ public final class ShardingSphereSchemaDataRegistrySubscriber {
         GlobalLockDefinition lockDefinition = new GlobalLockDefinition("sys_data_" + event.getDatabaseName() + event.getSchemaName() + event.getTableName());
         if (lockPersistService.tryLock(lockDefinition, 10_000)) {
             try {
-                persistService.getTableRowDataPersistService().persist(databaseName, schemaName, event.getTableName(), event.getAddedRows());
-                persistService.getTableRowDataPersistService().persist(databaseName, schemaName, event.getTableName(), event.getUpdatedRows());
-                persistService.getTableRowDataPersistService().delete(databaseName, schemaName, event.getTableName(), event.getDeletedRows());
+                persistRows(databaseName, schemaName, event.getTableName(), event.getAddedRows());
+                persistRows(databaseName, schemaName, event.getTableName(), event.getUpdatedRows());
+                deleteRows(databaseName, schemaName, event.getTableName(), event.getDeletedRows());
+                batchWriter.flush();
             } finally {
                 lockPersistService.unlock(lockDefinition);
             }
         }
     }
+    
+    private void persistRows(final String databaseName, final String schemaName, final String tableName, final Collection<YamlShardingSphereRowData> rows) {
+        if (rows.isEmpty()) {
+            persistService.getTableRowDataPersistService().persist(databaseName, schemaName, tableName, rows);
+            return;
+        }
+        rows.forEach(each -> batchWriter.persist(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey()), YamlEngine.marshal(each)));
+    }
+    
+    private void deleteRows(final String databaseName, final String schemaName, final String tableName, final Collection<YamlShardingSphereRowData> rows) {
+        rows.forEach(each -> batchWriter.delete(ShardingSphereDataNode.getTableRowPath(databaseName, schemaName, tableName.toLowerCase(), each.getUniqueKey())));
+    }
+    
+    @Override
+    public void close() {
+        batchWriter.close();
+    }
 }
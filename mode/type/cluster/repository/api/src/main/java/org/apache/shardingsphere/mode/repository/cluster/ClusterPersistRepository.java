@@ -63,4 +63,15 @@ public interface ClusterPersistRepository extends PersistRepository {
      * @param listener data changed event listener
      */
     void watch(String key, DataChangedEventListener listener);
+    
+    /**
+     * Judge whether watched data can be cached locally.
+     * 
+     * <p>Only repository which delivers every data changed event of watched keys reliably can be cached.</p>
+     *
+     * @return can be cached or not
+     */
+    default boolean isCacheable() {
+        return false;
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batch writer of cluster persist repository.
+ * 
+ * <p>Writes are buffered and persisted in batch behind callers, repeated writes of same key within one flush interval are coalesced.
+ * Caller flushes synchronously when pending writes reach max pending size, which acts as back-pressure.
+ * Counters are updated when a batch is persisted, so writes coalesced but not yet flushed are not counted.</p>
+ */
+@Slf4j
+public final class ClusterPersistRepositoryBatchWriter implements AutoCloseable {
+    
+    private final ClusterPersistRepository repository;
+    
+    private final int maxPendingSize;
+    
+    private final ScheduledExecutorService flushExecutor;
+    
+    private final Object flushLock = new Object();
+    
+    private final AtomicLong persistedCount = new AtomicLong();
+    
+    private final AtomicLong coalescedCount = new AtomicLong();
+    
+    private final AtomicLong batchCount = new AtomicLong();
+    
+    private Map<String, String> pendingKeyValues = new LinkedHashMap<>();
+    
+    private int pendingCoalescedSize;
+    
+    public ClusterPersistRepositoryBatchWriter(final ClusterPersistRepository repository, final long flushIntervalMillis, final int maxPendingSize) {
+        this.repository = repository;
+        this.maxPendingSize = maxPendingSize;
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("cluster-persist-batch-writer-%d"));
+        flushExecutor.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Persist data behind caller.
+     *
+     * @param key key of data
+     * @param value value of data
+     */
+    public void persist(final String key, final String value) {
+        boolean isFull;
+        synchronized (this) {
+            if (null != pendingKeyValues.put(key, value)) {
+                pendingCoalescedSize++;
+            }
+            isFull = pendingKeyValues.size() >= maxPendingSize;
+        }
+        if (isFull) {
+            flush();
+        }
+    }
+    
+    /**
+     * Delete node, pending write of same key will be discarded.
+     *
+     * @param key key of data
+     */
+    public void delete(final String key) {
+        synchronized (flushLock) {
+            synchronized (this) {
+                pendingKeyValues.remove(key);
+            }
+            repository.delete(key);
+        }
+    }
+    
+    /**
+     * Flush pending writes.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<String, String> toBePersistedKeyValues;
+            int coalescedSize;
+            synchronized (this) {
+                toBePersistedKeyValues = pendingKeyValues;
+                coalescedSize = pendingCoalescedSize;
+                pendingKeyValues = new LinkedHashMap<>();
+                pendingCoalescedSize = 0;
+            }
+            if (toBePersistedKeyValues.isEmpty()) {
+                return;
+            }
+            try {
+                repository.persistInBatch(toBePersistedKeyValues);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                restorePendingKeyValues(toBePersistedKeyValues, coalescedSize);
+                throw ex;
+            }
+            onBatchPersisted(toBePersistedKeyValues.size(), coalescedSize);
+        }
+    }
+    
+    private void onBatchPersisted(final int persistedSize, final int coalescedSize) {
+        persistedCount.addAndGet(persistedSize);
+        coalescedCount.addAndGet(coalescedSize);
+        batchCount.incrementAndGet();
+    }
+    
+    private void flushInBackground() {
+        try {
+            flush();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Flush pending writes of cluster persist repository failed.", ex);
+        }
+    }
+    
+    private synchronized void restorePendingKeyValues(final Map<String, String> keyValues, final int coalescedSize) {
+        pendingCoalescedSize += coalescedSize;
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            if (null != pendingKeyValues.putIfAbsent(entry.getKey(), entry.getValue())) {
+                pendingCoalescedSize++;
+            }
+        }
+    }
+    
+    /**
+     * Get pending size.
+     *
+     * @return pending size
+     */
+    public synchronized int getPendingSize() {
+        return pendingKeyValues.size();
+    }
+    
+    /**
+     * Get persisted count.
+     *
+     * @return persisted count
+     */
+    public long getPersistedCount() {
+        return persistedCount.get();
+    }
+    
+    /**
+     * Get coalesced count.
+     *
+     * @return coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+    
+    /**
+     * Get batch count.
+     *
+     * @return batch count
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+    
+    @Override
+    public void close() {
+        flushExecutor.shutdown();
+        flush();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached cluster persist repository.
+ * 
+ * <p>Reads of keys which are under both cached root paths and watched keys are served from local cache, and loaded from registry center on cache missing.
+ * Cached keys are refreshed by watched data changed events, and invalidated on writes of current instance.
+ * Keys which are not watched yet are never cached, because changes of them from other instances can not be received.
+ * Every refresh and invalidation advances a generation, value loaded from registry center is discarded if generation advanced while loading,
+ * so that stale value can not overwrite changes received during loading.
+ * Cache is loaded lazily on first read after watched, it is not primed on startup because reads before watched are not cached.</p>
+ */
+public final class CachedClusterPersistRepository implements ClusterPersistRepository, InstanceContextAware {
+    
+    private final ClusterPersistRepository delegate;
+    
+    private final Collection<String> cachedRootPaths;
+    
+    private final Collection<String> watchedPaths = new CopyOnWriteArrayList<>();
+    
+    private final Map<String, String> cachedValues = new ConcurrentHashMap<>();
+    
+    private final Map<String, List<String>> cachedChildrenKeys = new ConcurrentHashMap<>();
+    
+    private final AtomicLong generation = new AtomicLong();
+    
+    public CachedClusterPersistRepository(final ClusterPersistRepository delegate, final Collection<String> cachedRootPaths) {
+        this.delegate = delegate;
+        this.cachedRootPaths = cachedRootPaths;
+    }
+    
+    @Override
+    public void init(final ClusterPersistRepositoryConfiguration config) {
+        delegate.init(config);
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        if (!isCached(key)) {
+            return delegate.getDirectly(key);
+        }
+        String result = cachedValues.get(key);
+        if (null != result) {
+            return result;
+        }
+        long loadingGeneration = generation.get();
+        result = delegate.getDirectly(key);
+        if (null != result && null == cachedValues.putIfAbsent(key, result) && loadingGeneration != generation.get()) {
+            cachedValues.remove(key, result);
+        }
+        return result;
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        if (!isCached(key)) {
+            return delegate.getChildrenKeys(key);
+        }
+        List<String> result = cachedChildrenKeys.get(key);
+        if (null != result) {
+            return new ArrayList<>(result);
+        }
+        long loadingGeneration = generation.get();
+        result = delegate.getChildrenKeys(key);
+        List<String> loadedChildrenKeys = new ArrayList<>(result);
+        if (null == cachedChildrenKeys.putIfAbsent(key, loadedChildrenKeys) && loadingGeneration != generation.get()) {
+            cachedChildrenKeys.remove(key, loadedChildrenKeys);
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return delegate.isExisted(key);
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        delegate.persist(key, value);
+        invalidate(key);
+    }
+    
+    @Override
+    public void persistInBatch(final Map<String, String> keyValues) {
+        delegate.persistInBatch(keyValues);
+        keyValues.keySet().forEach(this::invalidate);
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        delegate.update(key, value);
+        invalidate(key);
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        delegate.persistEphemeral(key, value);
+        invalidate(key);
+    }
+    
+    @Override
+    public void persistExclusiveEphemeral(final String key, final String value) {
+        delegate.persistExclusiveEphemeral(key, value);
+        invalidate(key);
+    }
+    
+    @Override
+    public void delete(final String key) {
+        delegate.delete(key);
+        invalidateWithChildren(key);
+    }
+    
+    @Override
+    public DistributedLockHolder getDistributedLockHolder() {
+        return delegate.getDistributedLockHolder();
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener) {
+        delegate.watch(key, event -> {
+            refresh(event);
+            listener.onChange(event);
+        });
+        if (isUnder(key, cachedRootPaths)) {
+            invalidateWithChildren(key);
+            watchedPaths.add(key);
+        }
+    }
+    
+    private void refresh(final DataChangedEvent event) {
+        if (!isCached(event.getKey())) {
+            return;
+        }
+        generation.incrementAndGet();
+        switch (event.getType()) {
+            case ADDED:
+                cachedChildrenKeys.remove(getParentKey(event.getKey()));
+                refreshValue(event.getKey(), event.getValue());
+                break;
+            case UPDATED:
+                refreshValue(event.getKey(), event.getValue());
+                break;
+            case DELETED:
+                invalidateWithChildren(event.getKey());
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private void refreshValue(final String key, final String value) {
+        if (null == value) {
+            cachedValues.remove(key);
+        } else {
+            cachedValues.put(key, value);
+        }
+    }
+    
+    private boolean isCached(final String key) {
+        return isUnder(key, watchedPaths);
+    }
+    
+    private boolean isUnder(final String key, final Collection<String> paths) {
+        for (String each : paths) {
+            if (key.equals(each) || key.startsWith(each + PATH_SEPARATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void invalidate(final String key) {
+        generation.incrementAndGet();
+        cachedValues.remove(key);
+        cachedChildrenKeys.remove(key);
+        cachedChildrenKeys.remove(getParentKey(key));
+    }
+    
+    private void invalidateWithChildren(final String key) {
+        invalidate(key);
+        String prefix = key + PATH_SEPARATOR;
+        cachedValues.keySet().removeIf(each -> each.startsWith(prefix));
+        cachedChildrenKeys.keySet().removeIf(each -> each.startsWith(prefix));
+    }
+    
+    private String getParentKey(final String key) {
+        int index = key.lastIndexOf(PATH_SEPARATOR);
+        return index > 0 ? key.substring(0, index) : PATH_SEPARATOR;
+    }
+    
+    @Override
+    public boolean isCacheable() {
+        return delegate.isCacheable();
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        if (delegate instanceof InstanceContextAware) {
+            ((InstanceContextAware) delegate).setInstanceContext(instanceContext);
+        }
+    }
+    
+    @Override
+    public void close() {
+        cachedValues.clear();
+        cachedChildrenKeys.clear();
+        delegate.close();
+    }
+    
+    @Override
+    public String getType() {
+        return delegate.getType();
+    }
+}
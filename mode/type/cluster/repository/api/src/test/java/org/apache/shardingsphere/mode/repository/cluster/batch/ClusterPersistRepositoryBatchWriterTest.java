@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.batch;
+
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public final class ClusterPersistRepositoryBatchWriterTest {
+    
+    private final ClusterPersistRepository repository = mock(ClusterPersistRepository.class);
+    
+    @Test
+    public void assertFlushWithCoalescedWrites() {
+        try (ClusterPersistRepositoryBatchWriter batchWriter = new ClusterPersistRepositoryBatchWriter(repository, 60000L, 16)) {
+            batchWriter.persist("/key1", "value1");
+            batchWriter.persist("/key2", "value2");
+            batchWriter.persist("/key1", "value3");
+            assertThat(batchWriter.getPendingSize(), is(2));
+            batchWriter.flush();
+            Map<String, String> expected = new LinkedHashMap<>(2, 1);
+            expected.put("/key1", "value3");
+            expected.put("/key2", "value2");
+            verify(repository).persistInBatch(expected);
+            assertThat(batchWriter.getPendingSize(), is(0));
+            assertThat(batchWriter.getPersistedCount(), is(2L));
+            assertThat(batchWriter.getCoalescedCount(), is(1L));
+            assertThat(batchWriter.getBatchCount(), is(1L));
+        }
+    }
+    
+    @Test
+    public void assertFlushWhenPendingSizeReachesMaxPendingSize() {
+        try (ClusterPersistRepositoryBatchWriter batchWriter = new ClusterPersistRepositoryBatchWriter(repository, 60000L, 2)) {
+            batchWriter.persist("/key1", "value1");
+            verify(repository, never()).persistInBatch(anyMap());
+            batchWriter.persist("/key2", "value2");
+            verify(repository).persistInBatch(anyMap());
+            assertThat(batchWriter.getPendingSize(), is(0));
+        }
+    }
+    
+    @Test
+    public void assertDeleteDiscardsPendingWrite() {
+        try (ClusterPersistRepositoryBatchWriter batchWriter = new ClusterPersistRepositoryBatchWriter(repository, 60000L, 16)) {
+            batchWriter.persist("/key1", "value1");
+            batchWriter.delete("/key1");
+            verify(repository).delete("/key1");
+            assertThat(batchWriter.getPendingSize(), is(0));
+            batchWriter.flush();
+            verify(repository, never()).persistInBatch(anyMap());
+        }
+    }
+    
+    @Test
+    public void assertCloseFlushesPendingWrites() {
+        ClusterPersistRepositoryBatchWriter batchWriter = new ClusterPersistRepositoryBatchWriter(repository, 60000L, 16);
+        batchWriter.persist("/key1", "value1");
+        batchWriter.close();
+        verify(repository).persistInBatch(anyMap());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.repository.cluster.cache;
+
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class CachedClusterPersistRepositoryTest {
+    
+    @Mock
+    private ClusterPersistRepository delegate;
+    
+    private CachedClusterPersistRepository repository;
+    
+    private DataChangedEventListener watchedListener;
+    
+    private DataChangedEventListener listener;
+    
+    @Before
+    public void setUp() {
+        repository = new CachedClusterPersistRepository(delegate, Collections.singleton("/metadata"));
+        listener = mock(DataChangedEventListener.class);
+        repository.watch("/metadata", listener);
+        ArgumentCaptor<DataChangedEventListener> listenerCaptor = ArgumentCaptor.forClass(DataChangedEventListener.class);
+        verify(delegate).watch(eq("/metadata"), listenerCaptor.capture());
+        watchedListener = listenerCaptor.getValue();
+    }
+    
+    @Test
+    public void assertGetDirectlyFromCache() {
+        when(delegate.getDirectly("/metadata/foo_db")).thenReturn("foo");
+        assertThat(repository.getDirectly("/metadata/foo_db"), is("foo"));
+        assertThat(repository.getDirectly("/metadata/foo_db"), is("foo"));
+        verify(delegate).getDirectly("/metadata/foo_db");
+    }
+    
+    @Test
+    public void assertGetDirectlyWithNotWatchedKey() {
+        when(delegate.getDirectly("/nodes/foo")).thenReturn("foo");
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo"));
+        assertThat(repository.getDirectly("/nodes/foo"), is("foo"));
+        verify(delegate, times(2)).getDirectly("/nodes/foo");
+    }
+    
+    @Test
+    public void assertGetDirectlyWithNullValue() {
+        assertNull(repository.getDirectly("/metadata/foo_db"));
+        assertNull(repository.getDirectly("/metadata/foo_db"));
+        verify(delegate, times(2)).getDirectly("/metadata/foo_db");
+    }
+    
+    @Test
+    public void assertGetChildrenKeysFromCache() {
+        when(delegate.getChildrenKeys("/metadata")).thenReturn(Arrays.asList("foo_db", "bar_db"));
+        assertThat(repository.getChildrenKeys("/metadata"), is(Arrays.asList("foo_db", "bar_db")));
+        assertThat(repository.getChildrenKeys("/metadata"), is(Arrays.asList("foo_db", "bar_db")));
+        verify(delegate).getChildrenKeys("/metadata");
+    }
+    
+    @Test
+    public void assertRefreshByUpdatedEvent() {
+        when(delegate.getDirectly("/metadata/foo_db")).thenReturn("foo");
+        repository.getDirectly("/metadata/foo_db");
+        DataChangedEvent event = new DataChangedEvent("/metadata/foo_db", "bar", Type.UPDATED);
+        watchedListener.onChange(event);
+        assertThat(repository.getDirectly("/metadata/foo_db"), is("bar"));
+        verify(delegate).getDirectly("/metadata/foo_db");
+        verify(listener).onChange(event);
+    }
+    
+    @Test
+    public void assertRefreshByAddedEvent() {
+        when(delegate.getChildrenKeys("/metadata")).thenReturn(Collections.singletonList("foo_db"));
+        repository.getChildrenKeys("/metadata");
+        watchedListener.onChange(new DataChangedEvent("/metadata/bar_db", "bar", Type.ADDED));
+        repository.getChildrenKeys("/metadata");
+        verify(delegate, times(2)).getChildrenKeys("/metadata");
+        assertThat(repository.getDirectly("/metadata/bar_db"), is("bar"));
+        verify(delegate, times(0)).getDirectly(any());
+    }
+    
+    @Test
+    public void assertRefreshByDeletedEvent() {
+        when(delegate.getDirectly("/metadata/foo_db/schemas")).thenReturn("foo");
+        repository.getDirectly("/metadata/foo_db/schemas");
+        watchedListener.onChange(new DataChangedEvent("/metadata/foo_db", "", Type.DELETED));
+        repository.getDirectly("/metadata/foo_db/schemas");
+        verify(delegate, times(2)).getDirectly("/metadata/foo_db/schemas");
+    }
+    
+    @Test
+    public void assertInvalidateByPersist() {
+        when(delegate.getDirectly("/metadata/foo_db")).thenReturn("foo");
+        when(delegate.getChildrenKeys("/metadata")).thenReturn(Collections.singletonList("foo_db"));
+        repository.getDirectly("/metadata/foo_db");
+        repository.getChildrenKeys("/metadata");
+        repository.persist("/metadata/foo_db", "bar");
+        repository.getDirectly("/metadata/foo_db");
+        repository.getChildrenKeys("/metadata");
+        verify(delegate).persist("/metadata/foo_db", "bar");
+        verify(delegate, times(2)).getDirectly("/metadata/foo_db");
+        verify(delegate, times(2)).getChildrenKeys("/metadata");
+    }
+    
+    @Test
+    public void assertInvalidateByDelete() {
+        when(delegate.getDirectly("/metadata/foo_db/schemas")).thenReturn("foo");
+        repository.getDirectly("/metadata/foo_db/schemas");
+        repository.delete("/metadata/foo_db");
+        repository.getDirectly("/metadata/foo_db/schemas");
+        verify(delegate).delete("/metadata/foo_db");
+        verify(delegate, times(2)).getDirectly("/metadata/foo_db/schemas");
+    }
+    
+    @Test
+    public void assertGetDirectlyWithDeletedEventDuringLoading() {
+        when(delegate.getDirectly("/metadata/foo_db")).thenAnswer(invocation -> {
+            watchedListener.onChange(new DataChangedEvent("/metadata/foo_db", "", Type.DELETED));
+            return "foo";
+        });
+        repository.getDirectly("/metadata/foo_db");
+        repository.getDirectly("/metadata/foo_db");
+        verify(delegate, times(2)).getDirectly("/metadata/foo_db");
+    }
+    
+    @Test
+    public void assertGetChildrenKeysWithAddedEventDuringLoading() {
+        when(delegate.getChildrenKeys("/metadata")).thenAnswer(invocation -> {
+            watchedListener.onChange(new DataChangedEvent("/metadata/bar_db", "bar", Type.ADDED));
+            return Collections.singletonList("foo_db");
+        });
+        repository.getChildrenKeys("/metadata");
+        repository.getChildrenKeys("/metadata");
+        verify(delegate, times(2)).getChildrenKeys("/metadata");
+    }
+    
+    @Test
+    public void assertIsCacheable() {
+        when(delegate.isCacheable()).thenReturn(true);
+        assertTrue(repository.isCacheable());
+    }
+}
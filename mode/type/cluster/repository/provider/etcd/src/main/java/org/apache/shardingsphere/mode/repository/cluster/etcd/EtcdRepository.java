@@ -19,10 +19,14 @@ package org.apache.shardingsphere.mode.repository.cluster.etcd;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Lists;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.OptionsUtil;
@@ -43,7 +47,12 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
@@ -52,6 +61,8 @@ import java.util.stream.Collectors;
  */
 public final class EtcdRepository implements ClusterPersistRepository {
     
+    private static final int MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
     private Client client;
     
     private EtcdProperties etcdProps;
@@ -103,6 +114,38 @@ public final class EtcdRepository implements ClusterPersistRepository {
         client.getKVClient().put(ByteSequence.from(key, StandardCharsets.UTF_8), ByteSequence.from(value, StandardCharsets.UTF_8)).get();
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public void persistInBatch(final Map<String, String> keyValues) {
+        List<Op> operations = new LinkedList<>();
+        for (String each : getParentPaths(keyValues.keySet())) {
+            ByteSequence path = ByteSequence.from(each, StandardCharsets.UTF_8);
+            Cmp absent = new Cmp(path, Cmp.Op.EQUAL, CmpTarget.version(0L));
+            operations.add(Op.txn(new Cmp[]{absent}, new Op[]{Op.put(path, ByteSequence.from("", StandardCharsets.UTF_8), PutOption.DEFAULT)}, new Op[0]));
+        }
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            operations.add(Op.put(ByteSequence.from(entry.getKey(), StandardCharsets.UTF_8), ByteSequence.from(entry.getValue(), StandardCharsets.UTF_8), PutOption.DEFAULT));
+        }
+        for (List<Op> each : Lists.partition(operations, MAX_OPERATIONS_PER_TRANSACTION)) {
+            client.getKVClient().txn().Then(each.toArray(new Op[0])).commit().get();
+        }
+    }
+    
+    private Collection<String> getParentPaths(final Collection<String> keys) {
+        Collection<String> result = new TreeSet<>();
+        for (String each : keys) {
+            int index = each.indexOf(PATH_SEPARATOR, 1);
+            while (index > 0) {
+                String parentPath = each.substring(0, index);
+                if (!keys.contains(parentPath)) {
+                    result.add(parentPath);
+                }
+                index = each.indexOf(PATH_SEPARATOR, index + 1);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void update(final String key, final String value) {
         // TODO
@@ -173,6 +216,11 @@ public final class EtcdRepository implements ClusterPersistRepository {
         }
     }
     
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+    
     @Override
     public void close() {
         client.close();
@@ -23,9 +23,11 @@ import io.etcd.jetcd.Client;
 import io.etcd.jetcd.KV;
 import io.etcd.jetcd.KeyValue;
 import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.Txn;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.kv.GetResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
@@ -46,8 +48,10 @@ import org.mockito.plugins.MemberAccessor;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -55,8 +59,10 @@ import java.util.concurrent.ExecutionException;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -213,6 +219,19 @@ public final class EtcdRepositoryTest {
         verify(kv).put(any(ByteSequence.class), any(ByteSequence.class));
     }
     
+    @Test
+    public void assertPersistInBatch() {
+        Txn txn = mock(Txn.class, RETURNS_SELF);
+        when(kv.txn()).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(null));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/key1", "value1");
+        keyValues.put("/test/key2", "value2");
+        repository.persistInBatch(keyValues);
+        verify(txn).Then(any(Op.TxnOp.class), any(Op.PutOp.class), any(Op.PutOp.class));
+        verify(txn).commit();
+    }
+    
     @Test
     public void assertClose() {
         repository.close();
@@ -280,4 +299,9 @@ public final class EtcdRepositoryTest {
         accessor.set(result.getClass().getDeclaredField("events"), result, events);
         return result;
     }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(repository.isCacheable());
+    }
 }
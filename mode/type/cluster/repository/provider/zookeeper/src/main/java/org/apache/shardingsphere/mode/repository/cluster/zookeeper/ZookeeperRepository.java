@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.mode.repository.cluster.zookeeper;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import lombok.Getter;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.transaction.CuratorOp;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.curator.framework.recipes.cache.TreeCacheEvent;
@@ -42,16 +44,24 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
 import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -60,6 +70,10 @@ import java.util.concurrent.TimeUnit;
  */
 public final class ZookeeperRepository implements ClusterPersistRepository, InstanceContextAware {
     
+    private static final int MAX_OPERATIONS_PER_TRANSACTION = 128;
+    
+    private static final int MAX_BATCH_RETRY_TIMES = 3;
+    
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
     private final Builder builder = CuratorFrameworkFactory.builder();
@@ -154,6 +168,80 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public void persistInBatch(final Map<String, String> keyValues) {
+        for (int retryTimes = 0; true; retryTimes++) {
+            try {
+                for (List<CuratorOp> each : Lists.partition(createBatchOperations(new TreeMap<>(keyValues)), MAX_OPERATIONS_PER_TRANSACTION)) {
+                    client.transaction().forOperations(each);
+                }
+                return;
+            } catch (final NoNodeException | NodeExistsException ex) {
+                if (retryTimes >= MAX_BATCH_RETRY_TIMES) {
+                    throw new ClusterPersistRepositoryException(ex);
+                }
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                if (ex instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new ClusterPersistRepositoryException(ex);
+            }
+        }
+    }
+    
+    private List<CuratorOp> createBatchOperations(final SortedMap<String, String> keyValues) throws Exception {
+        List<CuratorOp> result = new LinkedList<>();
+        Map<String, Collection<String>> childrenCache = new HashMap<>();
+        Collection<String> createdPaths = new HashSet<>();
+        for (Entry<String, String> entry : keyValues.entrySet()) {
+            for (String each : getParentPaths(entry.getKey())) {
+                if (!createdPaths.contains(each) && !isExistedInBatch(each, childrenCache)) {
+                    result.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(each, new byte[0]));
+                    createdPaths.add(each);
+                }
+            }
+            byte[] value = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            if (createdPaths.contains(entry.getKey()) || isExistedInBatch(entry.getKey(), childrenCache)) {
+                result.add(client.transactionOp().setData().forPath(entry.getKey(), value));
+            } else {
+                result.add(client.transactionOp().create().withMode(CreateMode.PERSISTENT).forPath(entry.getKey(), value));
+                createdPaths.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
+    private List<String> getParentPaths(final String key) {
+        List<String> result = new LinkedList<>();
+        int index = key.indexOf(PATH_SEPARATOR, 1);
+        while (index > 0) {
+            result.add(key.substring(0, index));
+            index = key.indexOf(PATH_SEPARATOR, index + 1);
+        }
+        return result;
+    }
+    
+    private boolean isExistedInBatch(final String path, final Map<String, Collection<String>> childrenCache) throws Exception {
+        int index = path.lastIndexOf(PATH_SEPARATOR);
+        String parentPath = 0 == index ? PATH_SEPARATOR : path.substring(0, index);
+        Collection<String> children = childrenCache.get(parentPath);
+        if (null == children) {
+            children = loadChildren(parentPath);
+            childrenCache.put(parentPath, children);
+        }
+        return children.contains(path.substring(index + 1));
+    }
+    
+    private Collection<String> loadChildren(final String path) throws Exception {
+        try {
+            return new HashSet<>(client.getChildren().forPath(path));
+        } catch (final NoNodeException ignored) {
+            return Collections.emptySet();
+        }
+    }
+    
     @Override
     public void update(final String key, final String value) {
         try {
@@ -272,6 +360,11 @@ public final class ZookeeperRepository implements ClusterPersistRepository, Inst
         }
     }
     
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+    
     @Override
     public void close() {
         caches.values().forEach(CuratorCache::close);
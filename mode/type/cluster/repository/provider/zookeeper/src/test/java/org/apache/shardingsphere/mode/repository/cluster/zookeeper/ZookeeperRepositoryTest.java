@@ -22,6 +22,7 @@ import lombok.SneakyThrows;
 import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
+import org.apache.curator.framework.api.ACLPathAndBytesable;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
@@ -30,11 +31,17 @@ import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
+import org.apache.curator.framework.api.transaction.CuratorMultiTransaction;
+import org.apache.curator.framework.api.transaction.CuratorOp;
+import org.apache.curator.framework.api.transaction.TransactionCreateBuilder;
+import org.apache.curator.framework.api.transaction.TransactionOp;
+import org.apache.curator.framework.api.transaction.TransactionSetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.recipes.cache.ChildData;
 import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.curator.framework.recipes.cache.CuratorCacheListener;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepositoryConfiguration;
+import org.apache.shardingsphere.mode.repository.cluster.exception.ClusterPersistRepositoryException;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.lock.holder.DistributedLockHolder;
@@ -42,6 +49,8 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.lock.Zookeepe
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.NoNodeException;
+import org.apache.zookeeper.KeeperException.NodeExistsException;
 import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +65,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -64,10 +74,14 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -115,6 +129,18 @@ public final class ZookeeperRepositoryTest {
     @Mock
     private Builder builder;
     
+    @Mock
+    private TransactionOp transactionOp;
+    
+    @Mock
+    private TransactionCreateBuilder<CuratorOp> transactionCreateBuilder;
+    
+    @Mock
+    private ACLPathAndBytesable<CuratorOp> transactionCreateModeBuilder;
+    
+    @Mock
+    private TransactionSetDataBuilder<CuratorOp> transactionSetDataBuilder;
+    
     @Before
     public void init() {
         mockClient();
@@ -176,6 +202,53 @@ public final class ZookeeperRepositoryTest {
         verify(setDataBuilder).forPath("/test", "value2".getBytes(StandardCharsets.UTF_8));
     }
     
+    @Test
+    public void assertPersistInBatch() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.singletonList("test"));
+        when(getChildrenBuilder.forPath("/test")).thenReturn(Collections.singletonList("foo"));
+        Map<String, String> keyValues = new LinkedHashMap<>(2, 1);
+        keyValues.put("/test/foo", "value1");
+        keyValues.put("/test/bar", "value2");
+        mockTransactionCreate();
+        when(transactionOp.setData()).thenReturn(transactionSetDataBuilder);
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        REPOSITORY.persistInBatch(keyValues);
+        verify(transactionSetDataBuilder).forPath("/test/foo", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(transactionCreateModeBuilder).forPath("/test/bar", "value2".getBytes(StandardCharsets.UTF_8));
+        verify(transaction).forOperations(argThat((List<CuratorOp> operations) -> 2 == operations.size()));
+    }
+    
+    @Test
+    public void assertPersistInBatchWithParentPathsCreated() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.emptyList());
+        when(getChildrenBuilder.forPath("/test")).thenThrow(new NoNodeException());
+        mockTransactionCreate();
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        REPOSITORY.persistInBatch(Collections.singletonMap("/test/foo", "value1"));
+        verify(transactionCreateModeBuilder).forPath("/test", new byte[0]);
+        verify(transactionCreateModeBuilder).forPath("/test/foo", "value1".getBytes(StandardCharsets.UTF_8));
+        verify(transaction).forOperations(argThat((List<CuratorOp> operations) -> 2 == operations.size()));
+    }
+    
+    @Test
+    public void assertPersistInBatchFailedAfterRetry() throws Exception {
+        when(getChildrenBuilder.forPath("/")).thenReturn(Collections.emptyList());
+        mockTransactionCreate();
+        CuratorMultiTransaction transaction = mock(CuratorMultiTransaction.class);
+        when(client.transaction()).thenReturn(transaction);
+        when(transaction.forOperations(anyList())).thenThrow(new NodeExistsException());
+        assertThrows(ClusterPersistRepositoryException.class, () -> REPOSITORY.persistInBatch(Collections.singletonMap("/test", "value1")));
+        verify(transaction, times(4)).forOperations(anyList());
+    }
+    
+    private void mockTransactionCreate() {
+        when(client.transactionOp()).thenReturn(transactionOp);
+        when(transactionOp.create()).thenReturn(transactionCreateBuilder);
+        when(transactionCreateBuilder.withMode(CreateMode.PERSISTENT)).thenReturn(transactionCreateModeBuilder);
+    }
+    
     @Test
     public void assertPersistEphemeralNotExist() throws Exception {
         when(protect.withMode(CreateMode.EPHEMERAL)).thenReturn(protect);
@@ -304,4 +377,9 @@ public final class ZookeeperRepositoryTest {
         REPOSITORY.delete("/test/children/1");
         verify(backgroundVersionable).forPath("/test/children/1");
     }
+    
+    @Test
+    public void assertIsCacheable() {
+        assertTrue(REPOSITORY.isCacheable());
+    }
 }
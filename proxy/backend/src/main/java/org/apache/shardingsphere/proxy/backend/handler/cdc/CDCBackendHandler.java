@@ -18,15 +18,23 @@
 package org.apache.shardingsphere.proxy.backend.handler.cdc;
 
 import com.google.common.base.Strings;
+import io.netty.channel.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.api.CDCJobAPIFactory;
 import org.apache.shardingsphere.data.pipeline.cdc.common.CDCResponseErrorCode;
+import org.apache.shardingsphere.data.pipeline.cdc.context.CDCConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
+import org.apache.shardingsphere.data.pipeline.cdc.core.job.CDCJobId;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseGenerator;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.TableName;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CreateSubscriptionResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StartSubscriptionResult;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
+import org.apache.shardingsphere.data.pipeline.core.job.PipelineJobCenter;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.data.pipeline.cdc.api.pojo.CreateSubscriptionJobParameter;
@@ -71,8 +79,53 @@ public final class CDCBackendHandler {
         }
         CreateSubscriptionJobParameter parameter = new CreateSubscriptionJobParameter(subscriptionRequest.getDatabase(), tableNames, subscriptionRequest.getSubscriptionName(),
                 subscriptionRequest.getSubscriptionMode().name(), actualDataNodesMap);
-        CDCJobAPIFactory.getInstance().createJobAndStart(parameter);
-        return CDCResponseGenerator.succeedBuilder(request.getRequestId()).build();
+        CDCJobAPIFactory.getInstance().createJob(parameter);
+        CreateSubscriptionResult result = CreateSubscriptionResult.newBuilder().setSubscriptionName(subscriptionRequest.getSubscriptionName()).build();
+        return CDCResponseGenerator.succeedBuilder(request.getRequestId()).setCreateSubscriptionResult(result).build();
+    }
+    
+    /**
+     * Start subscription, records are pushed to the channel in batches negotiated with client.
+     *
+     * @param request CDC request
+     * @param channel channel
+     * @param connectionContext connection context
+     * @return CDC response
+     */
+    public CDCResponse startSubscription(final CDCRequest request, final Channel channel, final CDCConnectionContext connectionContext) {
+        StartSubscriptionRequest startSubscriptionRequest = request.getStartSubscription();
+        if (startSubscriptionRequest.getDatabase().isEmpty() || startSubscriptionRequest.getSubscriptionName().isEmpty()) {
+            return CDCResponseGenerator.failed(request.getRequestId(), CDCResponseErrorCode.ILLEGAL_REQUEST_ERROR, "Illegal start subscription request parameter");
+        }
+        String jobId = CDCJobAPIFactory.getInstance().marshalJobId(new CDCJobId(startSubscriptionRequest.getDatabase(), startSubscriptionRequest.getSubscriptionName()));
+        if (PipelineJobCenter.isJobExisting(jobId)) {
+            return CDCResponseGenerator.failed(request.getRequestId(), CDCResponseErrorCode.SERVER_ERROR,
+                    String.format("Subscription %s is already started", startSubscriptionRequest.getSubscriptionName()));
+        }
+        connectionContext.negotiate(startSubscriptionRequest);
+        CDCImporterConnector importerConnector = new CDCImporterConnector(channel, startSubscriptionRequest.getDatabase(), connectionContext.getMaxBatchBytes(),
+                connectionContext.getCompressionType(), connectionContext.getCredits());
+        CDCJobAPIFactory.getInstance().startJob(jobId, importerConnector);
+        connectionContext.setJobId(jobId);
+        connectionContext.setImporterConnector(importerConnector);
+        StartSubscriptionResult result = StartSubscriptionResult.newBuilder().setSubscriptionName(startSubscriptionRequest.getSubscriptionName())
+                .setMaxBatchBytes(connectionContext.getMaxBatchBytes()).setCompressionType(connectionContext.getCompressionType()).setCredits(connectionContext.getCredits()).build();
+        return CDCResponseGenerator.succeedBuilder(request.getRequestId()).setStartSubscriptionResult(result).build();
+    }
+    
+    /**
+     * Stop subscription started by the connection.
+     *
+     * @param connectionContext connection context
+     */
+    public void stopSubscription(final CDCConnectionContext connectionContext) {
+        String jobId = connectionContext.getJobId();
+        if (null == jobId) {
+            return;
+        }
+        PipelineJobCenter.stop(jobId);
+        connectionContext.setJobId(null);
+        connectionContext.setImporterConnector(null);
     }
     
     private List<DataNode> getActualDataNodes(final ShardingRule shardingRule, final String logicTableName) {
@@ -50,6 +50,7 @@ public final class ShowMigrationRuleResultSet implements DatabaseDistSQLResultSe
         row.add(getString(processConfig.getRead()));
         row.add(getString(processConfig.getWrite()));
         row.add(getString(processConfig.getStreamChannel()));
+        row.add(getString(processConfig.getIncrementalCheck()));
         data = Collections.singletonList(row).iterator();
     }
     
@@ -59,7 +60,7 @@ public final class ShowMigrationRuleResultSet implements DatabaseDistSQLResultSe
     
     @Override
     public Collection<String> getColumnNames() {
-        return Arrays.asList("read", "write", "stream_channel");
+        return Arrays.asList("read", "write", "stream_channel", "incremental_check");
     }
     
     @Override
@@ -19,10 +19,12 @@ package org.apache.shardingsphere.proxy.backend.handler.distsql.ral.updatable.co
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineProcessConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineReadConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineWriteConfiguration;
 import org.apache.shardingsphere.distsql.parser.segment.AlgorithmSegment;
+import org.apache.shardingsphere.distsql.parser.segment.IncrementalCheckSegment;
 import org.apache.shardingsphere.distsql.parser.segment.InventoryIncrementalRuleSegment;
 import org.apache.shardingsphere.distsql.parser.segment.ReadOrWriteSegment;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
@@ -43,19 +45,25 @@ public final class InventoryIncrementalProcessConfigurationSegmentConverter {
         PipelineReadConfiguration readConfig = convertToReadConfiguration(segment.getReadSegment());
         PipelineWriteConfiguration writeConfig = convertToWriteConfiguration(segment.getWriteSegment());
         AlgorithmConfiguration streamChannel = convertToAlgorithm(segment.getStreamChannel());
-        return new PipelineProcessConfiguration(readConfig, writeConfig, streamChannel);
+        PipelineIncrementalCheckConfiguration incrementalCheckConfig = convertToIncrementalCheckConfiguration(segment.getIncrementalCheck());
+        return new PipelineProcessConfiguration(readConfig, writeConfig, streamChannel, incrementalCheckConfig);
     }
     
     private static PipelineReadConfiguration convertToReadConfiguration(final ReadOrWriteSegment readSegment) {
         return null == readSegment
                 ? null
-                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), convertToAlgorithm(readSegment.getRateLimiter()));
+                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), convertToAlgorithm(readSegment.getRateLimiter()),
+                        readSegment.getDecodingPlugin());
     }
     
     private static PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
         return null == writeSegment ? null : new PipelineWriteConfiguration(writeSegment.getWorkerThread(), writeSegment.getBatchSize(), convertToAlgorithm(writeSegment.getRateLimiter()));
     }
     
+    private static PipelineIncrementalCheckConfiguration convertToIncrementalCheckConfiguration(final IncrementalCheckSegment incrementalCheckSegment) {
+        return null == incrementalCheckSegment ? null : new PipelineIncrementalCheckConfiguration(incrementalCheckSegment.getSampleRate(), incrementalCheckSegment.getDelayMillis());
+    }
+    
     private static AlgorithmConfiguration convertToAlgorithm(final AlgorithmSegment segment) {
         return null == segment ? null : new AlgorithmConfiguration(segment.getName(), segment.getProps());
     }
@@ -17,10 +17,15 @@
 
 package org.apache.shardingsphere.proxy.backend.handler.cdc;
 
+import io.netty.channel.Channel;
+import org.apache.shardingsphere.data.pipeline.cdc.context.CDCConnectionContext;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartSubscriptionRequest.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StartSubscriptionResult;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -46,6 +51,9 @@ import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -96,5 +104,34 @@ public final class CDCBackendHandlerTest {
         CDCResponse actualResponse = handler.createSubscription(request);
         assertThat(actualResponse.getStatus(), is(Status.SUCCEED));
         assertThat(actualResponse.getRequestId(), is(requestId));
+        assertTrue(actualResponse.hasCreateSubscriptionResult());
+    }
+    
+    @Test
+    public void assertStartSubscriptionFailed() {
+        CDCRequest request = CDCRequest.newBuilder().setRequestId("1").setStartSubscription(StartSubscriptionRequest.newBuilder().setDatabase("sharding_db")).build();
+        CDCConnectionContext connectionContext = new CDCConnectionContext();
+        CDCResponse actualResponse = handler.startSubscription(request, mock(Channel.class), connectionContext);
+        assertThat(actualResponse.getStatus(), is(Status.FAILED));
+        assertNull(connectionContext.getImporterConnector());
+    }
+    
+    @Test
+    public void assertStartAndStopSubscription() {
+        StartSubscriptionRequest startSubscriptionRequest = StartSubscriptionRequest.newBuilder().setDatabase("sharding_db").setSubscriptionName("foo").setMaxBatchBytes(Integer.MAX_VALUE)
+                .setCompressionType(CompressionType.DEFLATE).build();
+        CDCRequest request = CDCRequest.newBuilder().setRequestId("1").setStartSubscription(startSubscriptionRequest).build();
+        CDCConnectionContext connectionContext = new CDCConnectionContext();
+        CDCResponse actualResponse = handler.startSubscription(request, mock(Channel.class), connectionContext);
+        assertThat(actualResponse.getStatus(), is(Status.SUCCEED));
+        StartSubscriptionResult actualResult = actualResponse.getStartSubscriptionResult();
+        assertThat(actualResult.getMaxBatchBytes(), is(16 * 1024 * 1024));
+        assertThat(actualResult.getCompressionType(), is(CompressionType.DEFLATE));
+        assertThat(actualResult.getCredits(), is(16));
+        assertThat(connectionContext.getJobId(), is("fixture_job_id"));
+        assertNotNull(connectionContext.getImporterConnector());
+        handler.stopSubscription(connectionContext);
+        assertNull(connectionContext.getJobId());
+        assertNull(connectionContext.getImporterConnector());
     }
 }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.context.CDCProcessContext;
 import org.apache.shardingsphere.data.pipeline.core.api.InventoryIncrementalJobAPI;
 import org.apache.shardingsphere.data.pipeline.core.check.consistency.ConsistencyCheckJobItemProgressContext;
 import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.importer.connector.ImporterConnector;
 import org.apache.shardingsphere.data.pipeline.spi.job.JobType;
 
 import java.util.List;
@@ -43,10 +44,14 @@ import java.util.Properties;
 public final class FixtureCDCJobAPI implements InventoryIncrementalJobAPI, CDCJobAPI {
     
     @Override
-    public String createJobAndStart(final CreateSubscriptionJobParameter event) {
+    public String createJob(final CreateSubscriptionJobParameter event) {
         return "";
     }
     
+    @Override
+    public void startJob(final String jobId, final ImporterConnector importerConnector) {
+    }
+    
     @Override
     public JobType getJobType() {
         return null;
@@ -72,7 +77,7 @@ public final class FixtureCDCJobAPI implements InventoryIncrementalJobAPI, CDCJo
     
     @Override
     public String marshalJobId(final PipelineJobId pipelineJobId) {
-        return null;
+        return "fixture_job_id";
     }
     
     @Override
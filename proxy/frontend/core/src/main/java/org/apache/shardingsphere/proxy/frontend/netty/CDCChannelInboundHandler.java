@@ -27,7 +27,9 @@ import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.data.pipeline.cdc.common.CDCResponseErrorCode;
 import org.apache.shardingsphere.data.pipeline.cdc.constant.CDCConnectionStatus;
 import org.apache.shardingsphere.data.pipeline.cdc.context.CDCConnectionContext;
+import org.apache.shardingsphere.data.pipeline.cdc.core.importer.connector.CDCImporterConnector;
 import org.apache.shardingsphere.data.pipeline.cdc.generator.CDCResponseGenerator;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CreateSubscriptionRequest.SubscriptionMode;
@@ -67,6 +69,12 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         ctx.writeAndFlush(response);
     }
     
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) {
+        backendHandler.stopSubscription(ctx.channel().attr(CONNECTION_CONTEXT_KEY).get());
+        ctx.fireChannelInactive();
+    }
+    
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
         CDCConnectionContext connectionContext = ctx.channel().attr(CONNECTION_CONTEXT_KEY).get();
@@ -90,6 +98,7 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
                 dropStartSubscription(ctx, request);
                 break;
             case ACK_REQUEST:
+                processAck(request, connectionContext);
                 break;
             default:
                 log.warn("Cannot handle this type of request {}", request);
@@ -140,13 +149,35 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
     }
     
     private void processStartSubscription(final ChannelHandlerContext ctx, final CDCRequest request, final CDCConnectionContext connectionContext) {
-        // TODO waiting for pipeline refactoring finished
-        connectionContext.setStatus(CDCConnectionStatus.SUBSCRIBED);
-        ctx.writeAndFlush(CDCResponseGenerator.succeedBuilder(request.getRequestId()).build());
+        if (!request.hasStartSubscription()) {
+            ctx.writeAndFlush(CDCResponseGenerator.failed(request.getRequestId(), CDCResponseErrorCode.ILLEGAL_REQUEST_ERROR, "Miss start subscription request body"))
+                    .addListener(ChannelFutureListener.CLOSE);
+            return;
+        }
+        if (CDCConnectionStatus.SUBSCRIBED == connectionContext.getStatus()) {
+            ctx.writeAndFlush(CDCResponseGenerator.failed(request.getRequestId(), CDCResponseErrorCode.ILLEGAL_REQUEST_ERROR, "Subscription is already started on this connection"));
+            return;
+        }
+        // records are written after the response, since they are written by pipeline threads and scheduled to event loop
+        CDCResponse response = backendHandler.startSubscription(request, ctx.channel(), connectionContext);
+        if (CDCResponse.Status.SUCCEED == response.getStatus()) {
+            connectionContext.setStatus(CDCConnectionStatus.SUBSCRIBED);
+        }
+        ctx.writeAndFlush(response);
+    }
+    
+    private void processAck(final CDCRequest request, final CDCConnectionContext connectionContext) {
+        CDCImporterConnector importerConnector = connectionContext.getImporterConnector();
+        if (null == importerConnector) {
+            log.warn("Ack without started subscription, request {}", request);
+            return;
+        }
+        AckRequest ackRequest = request.getAckRequest();
+        importerConnector.ack(ackRequest.getAckId(), ackRequest.getCredits());
     }
     
     private void stopStartSubscription(final ChannelHandlerContext ctx, final CDCRequest request, final CDCConnectionContext connectionContext) {
-        // TODO waiting for pipeline refactoring finished
+        backendHandler.stopSubscription(connectionContext);
         connectionContext.setStatus(CDCConnectionStatus.LOGGED_IN);
         ctx.writeAndFlush(CDCResponseGenerator.succeedBuilder(request.getRequestId()).build());
     }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.check.consistency;
+
+import org.apache.shardingsphere.data.pipeline.api.config.process.PipelineIncrementalCheckConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.IncrementalDataConsistencyChecker;
+import org.apache.shardingsphere.data.pipeline.core.datasource.DefaultPipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
+import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationTaskConfiguration;
+import org.apache.shardingsphere.test.it.data.pipeline.core.util.JobConfigurationBuilder;
+import org.apache.shardingsphere.test.it.data.pipeline.core.util.PipelineContextUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class IncrementalDataConsistencyCheckerTest {
+    
+    @BeforeClass
+    public static void beforeClass() {
+        PipelineContextUtil.mockModeConfigAndContextManager();
+    }
+    
+    @Test
+    public void assertCheckSampledRecords() throws SQLException, InterruptedException {
+        MigrationTaskConfiguration taskConfig = PipelineContextUtil.mockMigrationJobItemContext(JobConfigurationBuilder.createJobConfiguration()).getTaskConfig();
+        try (DefaultPipelineDataSourceManager dataSourceManager = new DefaultPipelineDataSourceManager()) {
+            PipelineDataSourceWrapper sourceDataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig());
+            PipelineDataSourceWrapper targetDataSource = dataSourceManager.getDataSource(taskConfig.getImporterConfig().getDataSourceConfig());
+            initTableData(sourceDataSource, "t_order", 10);
+            initTableData(targetDataSource, "t_order", 20);
+            try (
+                    IncrementalDataConsistencyChecker checker = new IncrementalDataConsistencyChecker("foo_job", sourceDataSource, targetDataSource,
+                            taskConfig.getDumperConfig(), taskConfig.getImporterConfig(), new PipelineIncrementalCheckConfiguration(1D, 0L))) {
+                checker.onAck(Arrays.asList(createDataRecord(1), createDataRecord(2), createDataRecord(3)));
+                waitCheckedCount(checker, 3L);
+                assertThat(checker.getStatistics().getCheckedCount(), is(3L));
+                assertThat(checker.getStatistics().getMismatchedCount(), is(1L));
+                assertThat(checker.getStatistics().getHotKeyCount(), is(1));
+                updateUserId(sourceDataSource, 20);
+                checker.onAck(Collections.singletonList(createDataRecord(2)));
+                waitCheckedCount(checker, 4L);
+                assertThat(checker.getStatistics().getCheckedCount(), is(4L));
+                assertThat(checker.getStatistics().getMismatchedCount(), is(1L));
+                assertThat(checker.getStatistics().getHotKeyCount(), is(0));
+            }
+        }
+    }
+    
+    @Test
+    public void assertCheckRecordsWithActualTableName() throws SQLException, InterruptedException {
+        MigrationTaskConfiguration taskConfig = PipelineContextUtil.mockMigrationJobItemContext(JobConfigurationBuilder.createJobConfiguration()).getTaskConfig();
+        try (DefaultPipelineDataSourceManager dataSourceManager = new DefaultPipelineDataSourceManager()) {
+            PipelineDataSourceWrapper sourceDataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig());
+            PipelineDataSourceWrapper targetDataSource = dataSourceManager.getDataSource(taskConfig.getImporterConfig().getDataSourceConfig());
+            initTableData(sourceDataSource, "t_order_0", 10);
+            initTableData(targetDataSource, "t_order", 10);
+            try (
+                    IncrementalDataConsistencyChecker checker = new IncrementalDataConsistencyChecker("foo_job", sourceDataSource, targetDataSource,
+                            taskConfig.getDumperConfig(), taskConfig.getImporterConfig(), new PipelineIncrementalCheckConfiguration(1D, 0L))) {
+                DataRecord dataRecord = createDataRecord(2);
+                dataRecord.setActualTableName("t_order_0");
+                checker.onAck(Collections.singletonList(dataRecord));
+                waitCheckedCount(checker, 1L);
+                assertThat(checker.getStatistics().getCheckedCount(), is(1L));
+                assertThat(checker.getStatistics().getMismatchedCount(), is(0L));
+            }
+        }
+    }
+    
+    private void waitCheckedCount(final IncrementalDataConsistencyChecker checker, final long expectedCheckedCount) throws InterruptedException {
+        long timeoutMillis = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (checker.getStatistics().getCheckedCount() < expectedCheckedCount && System.currentTimeMillis() < timeoutMillis) {
+            TimeUnit.MILLISECONDS.sleep(50L);
+        }
+    }
+    
+    private void initTableData(final PipelineDataSourceWrapper dataSource, final String tableName, final int secondUserId) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("DROP TABLE IF EXISTS %s", tableName));
+            statement.execute(String.format("CREATE TABLE %s (order_id INT PRIMARY KEY, user_id INT(11))", tableName));
+            statement.execute(String.format("INSERT INTO %s (order_id, user_id) VALUES (1, 1), (2, %d)", tableName, secondUserId));
+        }
+    }
+    
+    private void updateUserId(final PipelineDataSourceWrapper dataSource, final int secondUserId) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute(String.format("UPDATE t_order SET user_id=%d WHERE order_id=2", secondUserId));
+        }
+    }
+    
+    private DataRecord createDataRecord(final int orderId) {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 2);
+        result.setType(IngestDataChangeType.INSERT);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", orderId, true, true));
+        result.addColumn(new Column("user_id", 1, true, false));
+        return result;
+    }
+}
@@ -34,6 +34,7 @@ import java.util.List;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public final class DataRecordMergerTest {
@@ -114,6 +115,20 @@ public final class DataRecordMergerTest {
         assertThat(dataRecord.getColumn(2).getValue(), is(2));
     }
     
+    @Test
+    public void assertNotUpdatedColumnBeforeUpdate() {
+        beforeDataRecord = mockUpdateDataRecord(1, 2, 2);
+        afterDataRecord = mockUpdateDataRecord(1, 3, 2);
+        afterDataRecord.getColumns().set(2, new Column("total_price", null, null, false, false));
+        actual = dataRecordMerger.merge(Arrays.asList(beforeDataRecord, afterDataRecord));
+        assertThat(actual.size(), is(1));
+        DataRecord dataRecord = actual.iterator().next();
+        assertThat(dataRecord.getType(), is(IngestDataChangeType.UPDATE));
+        assertThat(dataRecord.getColumn(1).getValue(), is(3));
+        assertThat(dataRecord.getColumn(2).getValue(), is(2));
+        assertTrue(dataRecord.getColumn(2).isUpdated());
+    }
+    
     @Test
     public void assertUpdateBeforeUpdatePrimaryKey() {
         beforeDataRecord = mockUpdateDataRecord(1, 1, 1);
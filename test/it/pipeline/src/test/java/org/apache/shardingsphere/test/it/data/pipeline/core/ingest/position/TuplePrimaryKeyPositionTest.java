@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.ingest.position;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPositionFactory;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.TuplePrimaryKeyPosition;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public final class TuplePrimaryKeyPositionTest {
+    
+    @Test
+    public void assertCompareTo() {
+        TuplePrimaryKeyPosition position1 = new TuplePrimaryKeyPosition(null, Arrays.asList("1", "a"));
+        TuplePrimaryKeyPosition position2 = new TuplePrimaryKeyPosition(Arrays.asList("1", "a"), Arrays.asList("2", "b"));
+        TuplePrimaryKeyPosition position3 = new TuplePrimaryKeyPosition(Arrays.asList("1", "b"), null);
+        assertThat(position1.compareTo(null), is(1));
+        assertTrue(position1.compareTo(position2) < 0);
+        assertTrue(position2.compareTo(position3) < 0);
+    }
+    
+    @Test
+    public void assertInit() {
+        TuplePrimaryKeyPosition position = (TuplePrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("t,1 a%2Cb,2 c+d");
+        assertThat(position.getBeginValue(), is(Arrays.asList("1", "a,b")));
+        assertThat(position.getEndValue(), is(Arrays.asList("2", "c d")));
+    }
+    
+    @Test
+    public void assertInitWithUnboundedValues() {
+        TuplePrimaryKeyPosition position = (TuplePrimaryKeyPosition) PrimaryKeyPositionFactory.newInstance("t,,");
+        assertNull(position.getBeginValue());
+        assertNull(position.getEndValue());
+    }
+    
+    @Test
+    public void assertToString() {
+        assertThat(new TuplePrimaryKeyPosition(Arrays.asList("1", "a,b"), Arrays.asList("2", "c d")).toString(), is("t,1 a%2Cb,2 c+d"));
+        assertThat(new TuplePrimaryKeyPosition(Arrays.asList("1", "a"), null).toString(), is("t,1 a,"));
+    }
+}
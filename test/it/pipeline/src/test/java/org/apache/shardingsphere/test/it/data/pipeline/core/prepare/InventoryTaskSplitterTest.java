@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.job.MigrationJobConfig
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.TuplePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.core.exception.job.SplitPipelineJobByRangeException;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
@@ -44,11 +45,12 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 public final class InventoryTaskSplitterTest {
     
@@ -107,6 +109,32 @@ public final class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), -49, 50);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask firstTask = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getBeginValue(), is(-49L));
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getEndValue(), is(-40L));
+        InventoryTask lastTask = actual.get(9);
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getBeginValue(), is(41L));
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getEndValue(), is(50L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initSparseIntPrimaryEnvironment(taskConfig.getDumperConfig());
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        InventoryTask firstTask = actual.get(0);
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getBeginValue(), is(1L));
+        assertThat(((IntegerPrimaryKeyPosition) firstTask.getTaskProgress().getPosition()).getEndValue(), is(10L));
+        InventoryTask lastTask = actual.get(9);
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getBeginValue(), is(91L));
+        assertThat(((IntegerPrimaryKeyPosition) lastTask.getTaskProgress().getPosition()).getEndValue(), is(1000000L));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -120,14 +148,45 @@ public final class InventoryTaskSplitterTest {
         assertThat(actual.size(), is(1));
     }
     
-    @Test(expected = SplitPipelineJobByRangeException.class)
-    public void assertSplitInventoryDataWithIllegalKeyDataType() throws SQLException, NoSuchFieldException, IllegalAccessException {
+    @Test
+    public void assertSplitInventoryDataWithDecimalPrimary() throws SQLException {
+        initDecimalPrimaryEnvironment(taskConfig.getDumperConfig());
+        InventoryTaskSplitter splitter = new InventoryTaskSplitter(jobItemContext.getSourceDataSource(),
+                new InventoryDumperConfiguration(taskConfig.getDumperConfig()), taskConfig.getImporterConfig());
+        List<InventoryTask> actual = splitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(1));
+        TuplePrimaryKeyPosition position = (TuplePrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertNull(position.getBeginValue());
+        assertNull(position.getEndValue());
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithUnionPrimary() throws SQLException {
         initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
-        InventoryDumperConfiguration dumperConfig = ReflectionUtil.getFieldValue(inventoryTaskSplitter, "dumperConfig", InventoryDumperConfiguration.class);
-        assertNotNull(dumperConfig);
-        dumperConfig.setUniqueKey("order_id,user_id");
-        dumperConfig.setUniqueKeyDataType(Integer.MIN_VALUE);
-        inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        InventoryTaskSplitter splitter = new InventoryTaskSplitter(jobItemContext.getSourceDataSource(),
+                new InventoryDumperConfiguration(taskConfig.getDumperConfig()), taskConfig.getImporterConfig());
+        List<InventoryTask> actual = splitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(3));
+        TuplePrimaryKeyPosition firstPosition = (TuplePrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertNull(firstPosition.getBeginValue());
+        assertThat(firstPosition.getEndValue(), is(Arrays.asList("5", "b")));
+        TuplePrimaryKeyPosition secondPosition = (TuplePrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition();
+        assertThat(secondPosition.getBeginValue(), is(Arrays.asList("5", "b")));
+        assertThat(secondPosition.getEndValue(), is(Arrays.asList("10", "b")));
+        TuplePrimaryKeyPosition lastPosition = (TuplePrimaryKeyPosition) actual.get(2).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is(Arrays.asList("10", "b")));
+        assertNull(lastPosition.getEndValue());
+    }
+    
+    @Test
+    public void assertGetUniqueKeyColumnsWithUnionPrimary() throws SQLException {
+        initUnionPrimaryEnvironment(taskConfig.getDumperConfig());
+        try (PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(taskConfig.getDumperConfig().getDataSourceConfig())) {
+            List<PipelineColumnMetaData> actual = PipelineTableMetaDataUtil.getUniqueKeyColumns(null, "t_order", new StandardPipelineTableMetaDataLoader(dataSource));
+            assertThat(actual.size(), is(2));
+            assertThat(actual.get(0).getName(), is("order_id"));
+            assertThat(actual.get(1).getName(), is("user_id"));
+        }
     }
     
     @Test(expected = SplitPipelineJobByRangeException.class)
@@ -151,18 +210,32 @@ public final class InventoryTaskSplitterTest {
     }
     
     private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, 1, 100);
+    }
+    
+    private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final int minimumId, final int maximumId) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
-            for (int i = 1; i <= 100; i++) {
+            for (int i = minimumId; i <= maximumId; i++) {
                 statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
             }
         }
     }
     
+    private void initSparseIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, 1, 99);
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1000000, 'x')");
+        }
+    }
+    
     private void initCharPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
@@ -174,6 +247,17 @@ public final class InventoryTaskSplitterTest {
         }
     }
     
+    private void initDecimalPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id DECIMAL(10, 2) PRIMARY KEY, user_id VARCHAR(12))");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1.01, 'xxx'), (999.99, 'yyy')");
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
@@ -181,7 +265,9 @@ public final class InventoryTaskSplitterTest {
                 Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
             statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
-            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'xxx'), (999, 'yyy')");
+            for (int i = 1; i <= 12; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'a'), (%d, 'b')", i, i));
+            }
         }
     }
     
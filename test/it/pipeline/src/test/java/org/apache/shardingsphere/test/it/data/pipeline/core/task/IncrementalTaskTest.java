@@ -58,7 +58,7 @@ public final class IncrementalTaskTest {
         PipelineTableMetaDataLoader metaDataLoader = new StandardPipelineTableMetaDataLoader(mock(PipelineDataSourceWrapper.class));
         incrementalTask = new IncrementalTask(3, taskConfig.getDumperConfig(), taskConfig.getImporterConfig(),
                 PipelineContextUtil.getPipelineChannelCreator(), new FixtureImporterConnector(), metaDataLoader, PipelineContextUtil.getExecuteEngine(),
-                new FixtureInventoryIncrementalJobItemContext());
+                new FixtureInventoryIncrementalJobItemContext(), null);
     }
     
     @Test
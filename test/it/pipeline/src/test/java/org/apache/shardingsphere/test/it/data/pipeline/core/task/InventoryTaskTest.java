@@ -22,8 +22,10 @@ import org.apache.shardingsphere.data.pipeline.api.config.ingest.InventoryDumper
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.TuplePrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.datasource.DefaultPipelineDataSourceManager;
+import org.apache.shardingsphere.data.pipeline.core.metadata.loader.PipelineTableMetaDataUtil;
 import org.apache.shardingsphere.data.pipeline.core.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.scenario.migration.config.MigrationTaskConfiguration;
@@ -40,6 +42,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -98,6 +101,23 @@ public final class InventoryTaskTest {
         }
     }
     
+    @Test
+    public void assertGetProgressWithUnionPrimary() throws SQLException, ExecutionException, InterruptedException, TimeoutException {
+        initUnionPrimaryTableData(taskConfig.getDumperConfig());
+        InventoryDumperConfiguration inventoryDumperConfig = createInventoryDumperConfiguration("t_order", "t_order");
+        PipelineDataSourceWrapper dataSource = DATA_SOURCE_MANAGER.getDataSource(inventoryDumperConfig.getDataSourceConfig());
+        PipelineTableMetaDataLoader metaDataLoader = new StandardPipelineTableMetaDataLoader(dataSource);
+        inventoryDumperConfig.setUniqueKeyColumns(PipelineTableMetaDataUtil.getUniqueKeyColumns(null, "t_order", metaDataLoader));
+        inventoryDumperConfig.setPosition(new TuplePrimaryKeyPosition(Arrays.asList("1", "a"), null));
+        try (
+                InventoryTask inventoryTask = new InventoryTask(inventoryDumperConfig, taskConfig.getImporterConfig(),
+                        PipelineContextUtil.getPipelineChannelCreator(), new FixtureImporterConnector(), dataSource,
+                        metaDataLoader, PipelineContextUtil.getExecuteEngine(), PipelineContextUtil.getExecuteEngine(), new FixtureInventoryIncrementalJobItemContext())) {
+            CompletableFuture.allOf(inventoryTask.start().toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            assertThat(inventoryTask.getTaskProgress().getPosition(), instanceOf(TuplePrimaryKeyPosition.class));
+        }
+    }
+    
     private void initTableData(final DumperConfiguration dumperConfig) throws SQLException {
         PipelineDataSourceManager dataSourceManager = new DefaultPipelineDataSourceManager();
         try (
@@ -111,6 +131,19 @@ public final class InventoryTaskTest {
         dataSourceManager.close();
     }
     
+    private void initUnionPrimaryTableData(final DumperConfiguration dumperConfig) throws SQLException {
+        PipelineDataSourceManager dataSourceManager = new DefaultPipelineDataSourceManager();
+        try (
+                PipelineDataSourceWrapper dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id INT, user_id VARCHAR(12), PRIMARY KEY (order_id, user_id))");
+            statement.execute("INSERT INTO t_order (order_id, user_id) VALUES (1, 'a'), (1, 'b'), (999, 'yyy')");
+        }
+        dataSourceManager.close();
+    }
+    
     private InventoryDumperConfiguration createInventoryDumperConfiguration(final String logicTableName, final String actualTableName) {
         InventoryDumperConfiguration result = new InventoryDumperConfiguration(taskConfig.getDumperConfig());
         result.setLogicTableName(logicTableName);
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -67,6 +68,22 @@ public final class PipelineSQLBuilderTest {
         assertThat(actual, is("DELETE FROM t3 WHERE id = ? and sc = ?"));
     }
     
+    @Test
+    public void assertBuildTupleInventoryDumpSQL() {
+        assertThat(pipelineSQLBuilder.buildTupleInventoryDumpSQL(null, "t_order", Arrays.asList("order_id", "user_id"), false, false),
+                is("SELECT * FROM t_order ORDER BY order_id ASC,user_id ASC LIMIT ?"));
+        assertThat(pipelineSQLBuilder.buildTupleInventoryDumpSQL(null, "t_order", Arrays.asList("order_id", "user_id"), true, true),
+                is("SELECT * FROM t_order WHERE (order_id,user_id)>(?,?) AND (order_id,user_id)<=(?,?) ORDER BY order_id ASC,user_id ASC LIMIT ?"));
+    }
+    
+    @Test
+    public void assertBuildSplitByTupleKeyRangeSQL() {
+        assertThat(pipelineSQLBuilder.buildSplitByTupleKeyRangeSQL(null, "t_order", Arrays.asList("order_id", "user_id"), false),
+                is("SELECT order_id,user_id FROM t_order ORDER BY order_id ASC,user_id ASC LIMIT 1 OFFSET ?"));
+        assertThat(pipelineSQLBuilder.buildSplitByTupleKeyRangeSQL(null, "t_order", Arrays.asList("order_id", "user_id"), true),
+                is("SELECT order_id,user_id FROM t_order WHERE (order_id,user_id)>(?,?) ORDER BY order_id ASC,user_id ASC LIMIT 1 OFFSET ?"));
+    }
+    
     private Collection<Column> mockConditionColumns(final DataRecord dataRecord) {
         return RecordUtil.extractConditionColumns(dataRecord, Collections.singleton("sc"));
     }